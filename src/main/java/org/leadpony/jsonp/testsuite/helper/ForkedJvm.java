@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.helper;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A utility class running a main class in a new JVM sharing the class path of the current JVM.
+ *
+ * <p>
+ * The main class reports its result with {@link #printResult(Object...)},
+ * which is received by {@link #runForResult(Class, List, String...)}.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class ForkedJvm {
+
+    /**
+     * The options for a fixed heap of 3 GB with the serial collector,
+     * which keeps the measurements of different sizes comparable.
+     */
+    public static final List<String> FIXED_HEAP_OPTIONS =
+            Collections.unmodifiableList(Arrays.asList("-Xms3g", "-Xmx3g", "-XX:+UseSerialGC"));
+
+    private static final String RESULT_PREFIX = "result: ";
+
+    /**
+     * Runs the main method of the specified class in a new JVM and waits for its termination.
+     *
+     * @param mainClass  the class having the main method.
+     * @param jvmOptions the options passed to the JVM, such as {@code -Xmx}.
+     * @param args       the arguments passed to the main method.
+     * @return the lines written to the standard output and the standard error of the JVM.
+     * @throws IllegalStateException if the JVM exited with nonzero status.
+     */
+    public static List<String> run(Class<?> mainClass, List<String> jvmOptions, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(Arrays.asList(args));
+
+        List<String> lines = new ArrayList<>();
+        int status;
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), Charset.defaultCharset()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            }
+            status = process.waitFor();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        if (status != 0) {
+            throw new IllegalStateException(
+                    String.format("%s exited with status %d: %s", mainClass.getName(), status, lines));
+        }
+        return lines;
+    }
+
+    /**
+     * Runs the main method of the specified class in a new JVM and returns the result printed by the class.
+     *
+     * @param mainClass  the class having the main method.
+     * @param jvmOptions the options passed to the JVM, such as {@code -Xmx}.
+     * @param args       the arguments passed to the main method.
+     * @return the values printed by {@link #printResult(Object...)}.
+     * @throws IllegalStateException if the JVM exited with nonzero status or printed no result.
+     */
+    public static String[] runForResult(Class<?> mainClass, List<String> jvmOptions, String... args) {
+        List<String> lines = run(mainClass, jvmOptions, args);
+        return lines.stream()
+                .filter(line -> line.startsWith(RESULT_PREFIX))
+                .map(line -> line.substring(RESULT_PREFIX.length()).split(" "))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        String.format("%s printed no result: %s", mainClass.getName(), lines)));
+    }
+
+    /**
+     * Prints the result of the main method to the standard output.
+     * This method is intended to be called in the new JVM.
+     *
+     * @param values the values of the result, which must not contain spaces.
+     */
+    public static void printResult(Object... values) {
+        StringBuilder builder = new StringBuilder(RESULT_PREFIX);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(values[i]);
+        }
+        System.out.println(builder);
+    }
+
+    private ForkedJvm() {
+    }
+}
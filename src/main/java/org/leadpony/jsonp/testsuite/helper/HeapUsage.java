@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.helper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * A utility class measuring the usage of the heap.
+ *
+ * <p>
+ * The peak usage is the sum of the peaks of all heap memory pools,
+ * which may include garbage not yet collected and is therefore an upper bound.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class HeapUsage {
+
+    private static final int GC_ATTEMPTS = 3;
+
+    /**
+     * Collects garbage and returns the heap usage.
+     *
+     * @return the used bytes of the heap after garbage collection.
+     */
+    public static long getUsedAfterGc() {
+        for (int i = 0; i < GC_ATTEMPTS; i++) {
+            System.gc();
+        }
+        return getUsed();
+    }
+
+    /**
+     * Returns the current heap usage.
+     *
+     * @return the used bytes of the heap.
+     */
+    public static long getUsed() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Returns the peak heap usage since the last reset.
+     *
+     * @return the used bytes of the heap at its peak.
+     */
+    public static long getPeakUsed() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getPeakUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Resets the peak heap usage to the current usage.
+     */
+    public static void resetPeak() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private HeapUsage() {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.helper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A utility class creating instances of {@link InputStream}.
+ *
+ * @author leadpony
+ */
+public final class InputStreams {
+
+    /**
+     * Returns an input stream which supplies at most one byte per read
+     * and does not support mark and reset.
+     *
+     * @param in the original input stream.
+     * @return newly created input stream.
+     */
+    public static ByteByByteInputStream byteByByte(InputStream in) {
+        return new ByteByByteInputStream(in);
+    }
+
+    /**
+     * An input stream which supplies at most one byte per read,
+     * like a slow network connection.
+     *
+     * @author leadpony
+     */
+    public static final class ByteByByteInputStream extends FilterInputStream {
+
+        private long readCount;
+
+        private ByteByByteInputStream(InputStream in) {
+            super(in);
+        }
+
+        /**
+         * Returns how many times this stream was read.
+         *
+         * @return the number of calls of the read methods.
+         */
+        public long getReadCount() {
+            return readCount;
+        }
+
+        @Override
+        public int read() throws IOException {
+            readCount++;
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            readCount++;
+            if (len == 0) {
+                return 0;
+            }
+            int c = super.read();
+            if (c < 0) {
+                return -1;
+            }
+            b[off] = (byte) c;
+            return 1;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return super.skip(Math.min(n, 1));
+        }
+
+        @Override
+        public int available() throws IOException {
+            return 0;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+    }
+
+    private InputStreams() {
+    }
+}
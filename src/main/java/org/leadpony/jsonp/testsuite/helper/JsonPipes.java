@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.helper;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * A utility class connecting {@link JsonParser} to {@link JsonGenerator}.
+ *
+ * @author leadpony
+ */
+public final class JsonPipes {
+
+    /**
+     * Writes all events from the parser to the generator without building any JSON values.
+     * Neither the parser nor the generator will be closed.
+     *
+     * @param parser    the parser supplying the events.
+     * @param generator the generator receiving the events.
+     */
+    public static void pipe(JsonParser parser, JsonGenerator generator) {
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            switch (event) {
+            case START_ARRAY:
+                generator.writeStartArray();
+                break;
+            case START_OBJECT:
+                generator.writeStartObject();
+                break;
+            case END_ARRAY:
+            case END_OBJECT:
+                generator.writeEnd();
+                break;
+            case KEY_NAME:
+                generator.writeKey(parser.getString());
+                break;
+            case VALUE_STRING:
+                generator.write(parser.getString());
+                break;
+            case VALUE_NUMBER:
+                generator.write(parser.getBigDecimal());
+                break;
+            case VALUE_TRUE:
+                generator.write(true);
+                break;
+            case VALUE_FALSE:
+                generator.write(false);
+                break;
+            case VALUE_NULL:
+                generator.writeNull();
+                break;
+            default:
+                throw new IllegalStateException(event.name());
+            }
+        }
+    }
+
+    private JsonPipes() {
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.helper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The elapsed time and the allocated memory of a task run repeatedly.
+ *
+ * <p>
+ * The memory allocated is measured per thread and is available only on the JVMs
+ * supporting {@code com.sun.management.ThreadMXBean}.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class Measurement {
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final String name;
+    private final int iterations;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+
+    /**
+     * Measures the specified task.
+     *
+     * @param name       the name of the task.
+     * @param warmups    the number of runs before measuring.
+     * @param iterations the number of runs to measure.
+     * @param task       the task to measure.
+     * @return the result of the measurement.
+     */
+    public static Measurement measure(String name, int warmups, int iterations, Runnable task) {
+        for (int i = 0; i < warmups; i++) {
+            task.run();
+        }
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedAfter = getAllocatedBytes();
+        long allocatedBytes = (allocatedBefore < 0 || allocatedAfter < 0) ? -1 : allocatedAfter - allocatedBefore;
+        return new Measurement(name, iterations, elapsedNanos, allocatedBytes);
+    }
+
+    /**
+     * Measures the specified task and verifies the result of every run, including warmups.
+     * The verification is excluded from both the elapsed time and the allocated memory.
+     *
+     * @param <T>        the type of the result of the task.
+     * @param name       the name of the task.
+     * @param warmups    the number of runs before measuring.
+     * @param iterations the number of runs to measure.
+     * @param task       the task to measure.
+     * @param verifier   the verifier of the result of each run.
+     * @return the result of the measurement.
+     */
+    public static <T> Measurement measure(String name, int warmups, int iterations,
+            Supplier<T> task, Consumer<? super T> verifier) {
+        for (int i = 0; i < warmups; i++) {
+            verifier.accept(task.get());
+        }
+        long elapsedNanos = 0;
+        long allocatedBytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBefore = getAllocatedBytes();
+            long start = System.nanoTime();
+            T result = task.get();
+            elapsedNanos += System.nanoTime() - start;
+            long allocatedAfter = getAllocatedBytes();
+            if (allocatedBefore < 0 || allocatedAfter < 0 || allocatedBytes < 0) {
+                allocatedBytes = -1;
+            } else {
+                allocatedBytes += allocatedAfter - allocatedBefore;
+            }
+            verifier.accept(result);
+        }
+        return new Measurement(name, iterations, elapsedNanos, allocatedBytes);
+    }
+
+    private Measurement(String name, int iterations, long elapsedNanos, long allocatedBytes) {
+        this.name = name;
+        this.iterations = iterations;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Returns the name of the task measured.
+     *
+     * @return the name of the task.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of runs measured.
+     *
+     * @return the number of runs.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the average time of a run in nanoseconds.
+     *
+     * @return the average time of a run.
+     */
+    public double getNanosPerIteration() {
+        return (double) elapsedNanos / iterations;
+    }
+
+    /**
+     * Checks if the memory allocated was measured or not.
+     *
+     * @return {@code true} if the memory allocated was measured, {@code false} otherwise.
+     */
+    public boolean hasAllocatedBytes() {
+        return allocatedBytes >= 0;
+    }
+
+    /**
+     * Returns the average number of bytes allocated by a run.
+     *
+     * @return the average number of bytes allocated, or {@code NaN} if not measured.
+     */
+    public double getAllocatedBytesPerIteration() {
+        return hasAllocatedBytes() ? (double) allocatedBytes / iterations : Double.NaN;
+    }
+
+    /**
+     * Returns the throughput in megabytes per second.
+     *
+     * @param bytesPerIteration the number of bytes processed by a run.
+     * @return the throughput in megabytes per second.
+     */
+    public double getMegabytesPerSecond(long bytesPerIteration) {
+        return bytesPerIteration * NANOS_PER_SECOND / getNanosPerIteration() / BYTES_PER_MEGABYTE;
+    }
+
+    /**
+     * Returns the number of runs per second.
+     *
+     * @return the number of runs per second.
+     */
+    public double getIterationsPerSecond() {
+        return NANOS_PER_SECOND / getNanosPerIteration();
+    }
+
+    /**
+     * Returns the summary of this measurement including the throughput.
+     *
+     * @param bytesPerIteration the number of bytes processed by a run.
+     * @return the summary of this measurement.
+     */
+    public String toString(long bytesPerIteration) {
+        return String.format("%s, %.1f MB/s", toString(), getMegabytesPerSecond(bytesPerIteration));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(name);
+        b.append(": ").append(String.format("%.1f us/op", getNanosPerIteration() / 1000));
+        if (hasAllocatedBytes()) {
+            b.append(", ").append(String.format("%.1f KB/op", getAllocatedBytesPerIteration() / 1024));
+        }
+        return b.toString();
+    }
+
+    private static long getAllocatedBytes() {
+        if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_BEAN;
+            if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
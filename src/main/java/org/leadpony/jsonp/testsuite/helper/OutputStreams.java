@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.helper;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A utility class creating instances of {@link OutputStream}.
+ *
+ * @author leadpony
+ */
+public final class OutputStreams {
+
+    /**
+     * Returns an output stream which counts the calls reaching the original stream.
+     *
+     * @param out the original output stream.
+     * @return newly created output stream.
+     */
+    public static CountingOutputStream counting(OutputStream out) {
+        return new CountingOutputStream(out);
+    }
+
+    /**
+     * An output stream which counts the calls of write and flush methods.
+     *
+     * @author leadpony
+     */
+    public static final class CountingOutputStream extends FilterOutputStream {
+
+        private long writeCount;
+        private long flushCount;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        /**
+         * Returns how many times this stream was written.
+         *
+         * @return the number of calls of the write methods.
+         */
+        public long getWriteCount() {
+            return writeCount;
+        }
+
+        /**
+         * Returns how many times this stream was flushed.
+         *
+         * @return the number of calls of the flush method.
+         */
+        public long getFlushCount() {
+            return flushCount;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writeCount++;
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writeCount++;
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushCount++;
+            out.flush();
+        }
+    }
+
+    private OutputStreams() {
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 the JSON-P Test Suite Authors.
+ * Copyright 2019-2021 the JSON-P Test Suite Authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -81,6 +81,73 @@ public final class Writers {
         };
     }
 
+    /**
+     * Returns a writer which counts the calls reaching the original writer.
+     *
+     * @param writer the original writer.
+     * @return newly created writer.
+     */
+    public static CountingWriter counting(Writer writer) {
+        return new CountingWriter(writer);
+    }
+
+    /**
+     * A writer which counts the calls of write and flush methods.
+     *
+     * @author leadpony
+     */
+    public static final class CountingWriter extends FilterWriter {
+
+        private long writeCount;
+        private long flushCount;
+
+        private CountingWriter(Writer writer) {
+            super(writer);
+        }
+
+        /**
+         * Returns how many times this writer was written.
+         *
+         * @return the number of calls of the write methods.
+         */
+        public long getWriteCount() {
+            return writeCount;
+        }
+
+        /**
+         * Returns how many times this writer was flushed.
+         *
+         * @return the number of calls of the flush method.
+         */
+        public long getFlushCount() {
+            return flushCount;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            writeCount++;
+            super.write(c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            writeCount++;
+            super.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            writeCount++;
+            super.write(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushCount++;
+            super.flush();
+        }
+    }
+
     private Writers() {
     }
 }
@@ -24,22 +24,34 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import jakarta.json.Json;
 import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.InputStreams;
+import org.leadpony.jsonp.testsuite.helper.InputStreams.ByteByByteInputStream;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
 
 /**
  * @author leadpony
  */
 public class CharsetDetectionTest {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CharsetDetectionTest.class);
+
     static final Charset UTF_32BE = Charset.forName("UTF-32BE");
     static final Charset UTF_32LE = Charset.forName("UTF-32LE");
 
@@ -51,6 +63,44 @@ public class CharsetDetectionTest {
 
     private static JsonParserFactory parserFactory;
 
+    /**
+     * Character encodings with or without BOM.
+     *
+     * @author leadpony
+     */
+    enum Encoding {
+        UTF_8(StandardCharsets.UTF_8),
+        UTF_16BE(StandardCharsets.UTF_16BE),
+        UTF_16LE(StandardCharsets.UTF_16LE),
+        UTF_32BE(CharsetDetectionTest.UTF_32BE),
+        UTF_32LE(CharsetDetectionTest.UTF_32LE),
+        UTF_8_WITH_BOM(StandardCharsets.UTF_8, UTF_8_BOM),
+        UTF_16BE_WITH_BOM(StandardCharsets.UTF_16BE, UTF_16BE_BOM),
+        UTF_16LE_WITH_BOM(StandardCharsets.UTF_16LE, UTF_16LE_BOM),
+        UTF_32BE_WITH_BOM(CharsetDetectionTest.UTF_32BE, UTF_32BE_BOM),
+        UTF_32LE_WITH_BOM(CharsetDetectionTest.UTF_32LE, UTF_32LE_BOM);
+
+        private final Charset charset;
+        private final byte[] bom;
+
+        Encoding(Charset charset) {
+            this(charset, new byte[0]);
+        }
+
+        Encoding(Charset charset, byte[] bom) {
+            this.charset = charset;
+            this.bom = bom;
+        }
+
+        byte[] encode(String json) {
+            ByteBuffer buffer = charset.encode(json);
+            byte[] bytes = new byte[bom.length + buffer.remaining()];
+            System.arraycopy(bom, 0, bytes, 0, bom.length);
+            buffer.get(bytes, bom.length, buffer.remaining());
+            return bytes;
+        }
+    }
+
     @BeforeAll
     public static void setUpOnce() {
         parserFactory = Json.createParserFactory(null);
@@ -126,6 +176,75 @@ public class CharsetDetectionTest {
         assertThat(thrown).isInstanceOf(JsonException.class);
     }
 
+    public static Stream<Arguments> getValueShouldReturnValueFromStreamReadByteByByte() {
+        return Stream.of(Encoding.values())
+            .flatMap(encoding -> Stream.of(JsonTestCase.values())
+                .map(test -> Arguments.of(encoding, test)));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void getValueShouldReturnValueFromStreamReadByteByByte(Encoding encoding, JsonTestCase test) {
+        InputStream in = InputStreams.byteByByte(new ByteArrayInputStream(encoding.encode(test.getJson())));
+        JsonValue actual;
+        try (JsonParser parser = parserFactory.createParser(in)) {
+            parser.next();
+            actual = parser.getValue();
+        }
+
+        assertThat(actual).isEqualTo(test.getValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Encoding.class)
+    public void getObjectShouldReturnObjectFromStreamReadByteByByte(Encoding encoding) {
+        JsonResource resource = JsonResource.ATOM_API;
+        InputStream in = InputStreams.byteByByte(
+            new ByteArrayInputStream(encoding.encode(resource.getJsonAsString())));
+        String actual;
+        try (JsonParser parser = parserFactory.createParser(in)) {
+            parser.next();
+            actual = parser.getObject().toString();
+        }
+
+        assertThat(actual).isEqualTo(resource.getMinifiedJsonAsString());
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkReadsBeforeFirstEvent() {
+        String json = JsonResource.ATOM_API.getJsonAsString();
+        for (Encoding encoding : Encoding.values()) {
+            ByteByByteInputStream in = InputStreams.byteByByte(new ByteArrayInputStream(encoding.encode(json)));
+            try (JsonParser parser = parserFactory.createParser(in)) {
+                parser.next();
+                LOG.info(String.format("%s: %d reads before first event", encoding.name(), in.getReadCount()));
+            }
+        }
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkParsing() {
+        String json = JsonResource.ATOM_API.getJsonAsString();
+        double baseline = 0;
+        for (Encoding encoding : Encoding.values()) {
+            byte[] bytes = encoding.encode(json);
+            Measurement m = Measurement.measure(encoding.name(), 30, 30, () -> {
+                try (JsonParser parser = parserFactory.createParser(new ByteArrayInputStream(bytes))) {
+                    while (parser.hasNext()) {
+                        parser.next();
+                    }
+                }
+            });
+            if (encoding == Encoding.UTF_8) {
+                baseline = m.getNanosPerIteration();
+            }
+            LOG.info(String.format("%s, %.2fx time of UTF-8",
+                    m.toString(bytes.length), m.getNanosPerIteration() / baseline));
+        }
+    }
+
     private void testParser(JsonTestCase test, Charset charset) {
         InputStream in = createEncodedStream(test.getJson(), charset);
         testParserWithStream(in);
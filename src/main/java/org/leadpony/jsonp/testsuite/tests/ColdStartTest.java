@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.ForkedJvm;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+
+/**
+ * A test type to measure the time and the classes loaded until the first object is read in a new JVM.
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class ColdStartTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ColdStartTest.class);
+
+    private static final int FORKS = 5;
+
+    @Test
+    public void benchmarkFirstReadObject() {
+        long[] totalMillis = new long[FORKS];
+        long[] mainMillis = new long[FORKS];
+        long[] readMillis = new long[FORKS];
+        long[] mainClasses = new long[FORKS];
+        long[] readClasses = new long[FORKS];
+
+        for (int i = 0; i < FORKS; i++) {
+            long start = System.nanoTime();
+            String[] values = ForkedJvm.runForResult(ColdStartTest.class, Collections.emptyList());
+            totalMillis[i] = (System.nanoTime() - start) / 1000000;
+            mainMillis[i] = Long.parseLong(values[0]);
+            readMillis[i] = Long.parseLong(values[1]);
+            mainClasses[i] = Long.parseLong(values[2]);
+            readClasses[i] = Long.parseLong(values[3]);
+        }
+
+        assertThat(median(readClasses)).isGreaterThan(median(mainClasses));
+
+        LOG.info(String.format("median of %d JVMs: %d ms until main, %d ms until first readObject(), "
+                + "%d ms until exit", FORKS, median(mainMillis), median(readMillis), median(totalMillis)));
+        LOG.info(String.format("%d classes loaded until main, %d more until first readObject()",
+                median(mainClasses), median(readClasses) - median(mainClasses)));
+    }
+
+    /**
+     * Reads the first object and prints the uptime and the number of loaded classes.
+     *
+     * @param args not used.
+     */
+    public static void main(String[] args) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        Reader resourceReader = JsonResource.GLOSSARY.createReader();
+
+        long mainMillis = runtime.getUptime();
+        long mainClasses = classLoading.getTotalLoadedClassCount();
+
+        JsonObject object;
+        try (JsonReader reader = Json.createReader(resourceReader)) {
+            object = reader.readObject();
+        }
+
+        long readMillis = runtime.getUptime();
+        long readClasses = classLoading.getTotalLoadedClassCount();
+
+        if (object.isEmpty()) {
+            throw new IllegalStateException("empty object");
+        }
+        ForkedJvm.printResult(mainMillis, readMillis, mainClasses, readClasses);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test that double values written as JSON numbers are read back as the same values.
+ *
+ * @author leadpony
+ */
+public class DoubleRoundTripTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DoubleRoundTripTest.class);
+
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_VALUES = 1000000;
+
+    private static JsonProvider provider;
+    private static JsonGeneratorFactory factory;
+    private static double[] values;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        provider = JsonProvider.provider();
+        factory = provider.createGeneratorFactory(null);
+        values = generateDoubles(new Random(SEED), NUMBER_OF_VALUES);
+    }
+
+    @Test
+    public void writeShouldWriteDoubleReadableAsSameDouble() {
+        String json = writeAll(values);
+
+        int index = 0;
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            while (parser.hasNext()) {
+                if (parser.next() == Event.VALUE_NUMBER) {
+                    assertRoundTrip(values[index++], parser.getString());
+                }
+            }
+        }
+
+        assertThat(index).isEqualTo(values.length);
+    }
+
+    @Test
+    public void createValueShouldCreateNumberReadableAsSameDouble() {
+        for (double value : values) {
+            JsonNumber number = provider.createValue(value);
+            assertRoundTrip(value, number.toString());
+        }
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkWrite() {
+        Measurement m = Measurement.measure("write(double)", 3, 5, () -> writeAll(values));
+        LOG.info(String.format("%s, %.2f M values/s",
+                m, m.getIterationsPerSecond() * values.length / 1e6));
+
+        String json = writeAll(values);
+        LOG.info(String.format("%.1f chars per value, %.1f by Double.toString()",
+                (double) (json.length() - 1) / values.length, averageLengthOfDoubleToString()));
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkCreateValue() {
+        Measurement m = Measurement.measure("createValue(double).toString()", 3, 5, () -> {
+            for (double value : values) {
+                provider.createValue(value).toString();
+            }
+        });
+        LOG.info(String.format("%s, %.2f M values/s",
+                m, m.getIterationsPerSecond() * values.length / 1e6));
+
+        long length = 0;
+        for (double value : values) {
+            length += provider.createValue(value).toString().length();
+        }
+        LOG.info(String.format("%.1f chars per value, %.1f by Double.toString()",
+                (double) length / values.length, averageLengthOfDoubleToString()));
+    }
+
+    private static String writeAll(double[] doubles) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator g = factory.createGenerator(writer)) {
+            g.writeStartArray();
+            for (double value : doubles) {
+                g.write(value);
+            }
+            g.writeEnd();
+        }
+        return writer.toString();
+    }
+
+    private static double averageLengthOfDoubleToString() {
+        long length = 0;
+        for (double value : values) {
+            length += Double.toString(value).length();
+        }
+        return (double) length / values.length;
+    }
+
+    private static void assertRoundTrip(double expected, String actual) {
+        // compares with == to accept the negative zero written as zero.
+        if (Double.parseDouble(actual) != expected) {
+            fail(String.format("%s was written as %s", Double.toString(expected), actual));
+        }
+    }
+
+    private static double[] generateDoubles(Random random, int count) {
+        double[] doubles = new double[count];
+        for (int i = 0; i < count; i++) {
+            doubles[i] = nextDouble(random);
+        }
+        return doubles;
+    }
+
+    private static double nextDouble(Random random) {
+        switch (random.nextInt(4)) {
+        case 0:
+            // any finite value
+            double value;
+            do {
+                value = Double.longBitsToDouble(random.nextLong());
+            } while (Double.isNaN(value) || Double.isInfinite(value));
+            return value;
+        case 1:
+            // subnormal value
+            return Double.longBitsToDouble(random.nextLong() & 0x800fffffffffffffL);
+        case 2:
+            // power of two
+            double power = Math.scalb(1.0, Double.MIN_EXPONENT - 52 + random.nextInt(2098));
+            return random.nextBoolean() ? power : -power;
+        default:
+            // value with a few decimal digits
+            return random.nextInt() / Math.pow(10, random.nextInt(10));
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.ForkedJvm;
+import org.leadpony.jsonp.testsuite.helper.HeapUsage;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+
+/**
+ * A test type to test the peak heap usage while processing a document holding a single giant string.
+ *
+ * <p>
+ * Each operation runs in a new JVM in order to measure the peak heap without interference.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class GiantStringTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GiantStringTest.class);
+
+    private static final int MEGABYTE = 1024 * 1024;
+    private static final List<String> JVM_OPTIONS = Arrays.asList("-Xmx3g", "-XX:+UseSerialGC");
+
+    private static final String OUT_OF_MEMORY = "OutOfMemoryError";
+    private static final String TIMED_OUT = "timeout";
+    private static final long TIME_LIMIT_MILLIS = 120 * 1000;
+
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Operations processing a giant string.
+     *
+     * @author leadpony
+     */
+    enum Operation {
+        PARSER_GET_STRING {
+            @Override
+            long perform(String string, int length) {
+                try (JsonParser parser = Json.createParser(new GiantStringInputStream(length))) {
+                    parser.next();
+                    parser.next();
+                    return parser.getString().length();
+                }
+            }
+        },
+        READER_READ_VALUE {
+            @Override
+            long perform(String string, int length) {
+                try (JsonReader reader = Json.createReader(new GiantStringInputStream(length))) {
+                    JsonArray array = reader.readArray();
+                    return array.getString(0).length();
+                }
+            }
+        },
+        GENERATOR_WRITE {
+            @Override
+            String prepare(int length) {
+                StringBuilder builder = new StringBuilder(length);
+                for (int i = 0; i < length; i++) {
+                    builder.append((char) ALPHABET[i % ALPHABET.length]);
+                }
+                return builder.toString();
+            }
+
+            @Override
+            long perform(String string, int length) {
+                DiscardingOutputStream out = new DiscardingOutputStream();
+                try (JsonGenerator generator = Json.createGenerator(out)) {
+                    generator.writeStartArray().write(string).writeEnd();
+                }
+                // excludes the brackets and the quotation marks.
+                return out.count - 4;
+            }
+        };
+
+        String prepare(int length) {
+            return null;
+        }
+
+        /**
+         * Performs this operation.
+         *
+         * @param string the string prepared, or {@code null}.
+         * @param length the length of the giant string.
+         * @return the length of the string read or written.
+         */
+        abstract long perform(String string, int length);
+    }
+
+    public static Stream<Arguments> provideTestCases() {
+        return Arrays.stream(Operation.values()).flatMap(operation ->
+                Stream.of(100, 1000).map(megabytes -> Arguments.of(operation, megabytes)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    public void benchmarkPeakHeap(Operation operation, int megabytes) {
+        int length = megabytes * MEGABYTE;
+        String[] values = ForkedJvm.runForResult(GiantStringTest.class, JVM_OPTIONS,
+                operation.name(), String.valueOf(length));
+
+        if (values[0].equals(OUT_OF_MEMORY) || values[0].equals(TIMED_OUT)) {
+            LOG.info(String.format("%s %d MB: %s with %s", operation, megabytes, values[0], JVM_OPTIONS));
+            return;
+        }
+
+        long peak = Long.parseLong(values[0]);
+        assertThat(Long.parseLong(values[1])).isEqualTo(length);
+
+        LOG.info(String.format("%s %d MB: peak heap %d MB, %.2fx of string size",
+                operation, megabytes, peak / MEGABYTE, (double) peak / length));
+    }
+
+    /**
+     * Performs the operation specified by the arguments and prints the peak heap usage.
+     *
+     * @param args the name of the operation and the length of the string.
+     */
+    public static void main(String[] args) {
+        Operation operation = Operation.valueOf(args[0]);
+        int length = Integer.parseInt(args[1]);
+
+        Thread watchdog = new Thread(() -> {
+            try {
+                Thread.sleep(TIME_LIMIT_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            ForkedJvm.printResult(TIMED_OUT);
+            System.exit(0);
+        });
+        watchdog.setDaemon(true);
+        watchdog.start();
+
+        long baseline = HeapUsage.getUsedAfterGc();
+        String string = operation.prepare(length);
+        HeapUsage.getUsedAfterGc();
+        HeapUsage.resetPeak();
+
+        long actualLength;
+        try {
+            actualLength = operation.perform(string, length);
+        } catch (OutOfMemoryError e) {
+            ForkedJvm.printResult(OUT_OF_MEMORY);
+            return;
+        }
+
+        long peak = HeapUsage.getPeakUsed() - baseline;
+        ForkedJvm.printResult(peak, actualLength);
+    }
+
+    /**
+     * An input stream supplying an array holding a single string of the specified length.
+     *
+     * @author leadpony
+     */
+    private static final class GiantStringInputStream extends InputStream {
+
+        private final long end;
+        private long position;
+
+        GiantStringInputStream(int length) {
+            this.end = length + 4;
+        }
+
+        @Override
+        public int read() {
+            if (position >= end) {
+                return -1;
+            }
+            return byteAt(position++);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= end) {
+                return -1;
+            }
+            int n = (int) Math.min(len, end - position);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) byteAt(position++);
+            }
+            return n;
+        }
+
+        private int byteAt(long index) {
+            if (index == 0) {
+                return '[';
+            } else if (index == 1 || index == end - 2) {
+                return '"';
+            } else if (index == end - 1) {
+                return ']';
+            }
+            return ALPHABET[(int) ((index - 2) % ALPHABET.length)];
+        }
+    }
+
+    /**
+     * An output stream counting and discarding the bytes written.
+     *
+     * @author leadpony
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
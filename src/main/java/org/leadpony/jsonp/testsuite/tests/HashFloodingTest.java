@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test objects whose keys all have the same {@link String#hashCode()}.
+ *
+ * <p>
+ * The colliding keys are concatenations of the blocks "Aa" and "BB", which have the same hash code.
+ * The keys of the same length made of "Aa" and "Ab" have distinct hash codes and serve as the baseline.
+ * A map resolving collisions by linear search takes quadratic time to fill with such keys,
+ * which allows a small document to occupy a server for a long time.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class HashFloodingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashFloodingTest.class);
+
+    /**
+     * The number of blocks in a key, which yields 2 to the power of this number of keys.
+     */
+    private static final int BLOCKS_PER_KEY = 15;
+
+    /**
+     * The maximum ratio of time with the colliding keys to that with the distinct keys.
+     * A bucket searched in logarithmic time stays well below this,
+     * while linear search in a single bucket would exceed it by orders of magnitude.
+     */
+    private static final double MAX_TIME_RATIO = 50.0;
+
+    private static JsonReaderFactory readerFactory;
+    private static JsonBuilderFactory builderFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        readerFactory = Json.createReaderFactory(null);
+        builderFactory = Json.createBuilderFactory(null);
+    }
+
+    /**
+     * Sets of keys.
+     *
+     * @author leadpony
+     */
+    enum KeySet {
+        COLLIDING("Aa", "BB"),
+        DISTINCT("Aa", "Ab");
+
+        final String[] keys;
+        final String json;
+
+        KeySet(String zero, String one) {
+            this.keys = generateKeys(zero, one);
+            this.json = generateJson(keys);
+        }
+    }
+
+    /**
+     * Operations on objects.
+     *
+     * @author leadpony
+     */
+    enum Operation {
+        READ_OBJECT {
+            @Override
+            void perform(KeySet keySet, JsonObject object) {
+                try (JsonReader reader = readerFactory.createReader(new StringReader(keySet.json))) {
+                    reader.readObject();
+                }
+            }
+        },
+        BUILDER_ADD {
+            @Override
+            void perform(KeySet keySet, JsonObject object) {
+                JsonObjectBuilder builder = builderFactory.createObjectBuilder();
+                for (String key : keySet.keys) {
+                    builder.add(key, JsonValue.TRUE);
+                }
+                builder.build();
+            }
+        },
+        GET {
+            @Override
+            void perform(KeySet keySet, JsonObject object) {
+                for (String key : keySet.keys) {
+                    if (object.get(key) == null) {
+                        throw new AssertionError(key);
+                    }
+                }
+            }
+        };
+
+        abstract void perform(KeySet keySet, JsonObject object);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Operation.class)
+    public void benchmarkCollidingKeys(Operation operation) {
+        assertThat(Arrays.stream(KeySet.COLLIDING.keys).mapToInt(String::hashCode).distinct().count())
+                .isEqualTo(1);
+        assertThat(Arrays.stream(KeySet.DISTINCT.keys).mapToInt(String::hashCode).distinct().count())
+                .isEqualTo(KeySet.DISTINCT.keys.length);
+
+        Measurement[] measurements = new Measurement[KeySet.values().length];
+        for (KeySet keySet : KeySet.values()) {
+            JsonObject object = readObject(keySet.json);
+            assertThat(object.size()).isEqualTo(keySet.keys.length);
+            measurements[keySet.ordinal()] = Measurement.measure(operation + " with " + keySet + " keys", 5, 10,
+                    () -> operation.perform(keySet, object));
+        }
+
+        Measurement colliding = measurements[KeySet.COLLIDING.ordinal()];
+        Measurement distinct = measurements[KeySet.DISTINCT.ordinal()];
+        double ratio = colliding.getNanosPerIteration() / distinct.getNanosPerIteration();
+
+        LOG.info(distinct.toString());
+        LOG.info(colliding.toString());
+        LOG.info(String.format("%s of %d colliding keys takes %.2fx time of distinct keys",
+                operation, KeySet.COLLIDING.keys.length, ratio));
+
+        assertThat(ratio).isLessThan(MAX_TIME_RATIO);
+    }
+
+    private static JsonObject readObject(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+    /**
+     * Generates all keys made of the specified blocks.
+     *
+     * @param zero the block for the bit of 0.
+     * @param one  the block for the bit of 1.
+     * @return the generated keys.
+     */
+    private static String[] generateKeys(String zero, String one) {
+        String[] keys = new String[1 << BLOCKS_PER_KEY];
+        for (int i = 0; i < keys.length; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = BLOCKS_PER_KEY - 1; bit >= 0; bit--) {
+                builder.append(((i >> bit) & 1) == 0 ? zero : one);
+            }
+            keys[i] = builder.toString();
+        }
+        return keys;
+    }
+
+    private static String generateJson(String[] keys) {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(keys[i]).append("\":").append(i);
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import java.util.logging.Logger;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to measure the allocation of the methods adding primitive values to builders.
+ *
+ * <p>
+ * The values passed to {@code add(JsonValue)} are created in advance,
+ * so that its allocation is the cost of storing the values only.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class JsonBuilderAllocationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonBuilderAllocationTest.class);
+
+    private static final int CALLS_PER_ITERATION = 100000;
+
+    private static JsonBuilderFactory factory;
+    private static JsonValue[] values;
+    private static String[] keys;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        JsonProvider provider = JsonProvider.provider();
+        factory = provider.createBuilderFactory(null);
+        values = new JsonValue[CALLS_PER_ITERATION];
+        keys = new String[CALLS_PER_ITERATION];
+        for (int i = 0; i < CALLS_PER_ITERATION; i++) {
+            values[i] = provider.createValue(i);
+            keys[i] = "key" + i;
+        }
+    }
+
+    /**
+     * Methods adding values to builders.
+     *
+     * @author leadpony
+     */
+    enum AddMethod {
+        JSON_VALUE {
+            @Override
+            void add(JsonArrayBuilder builder, int i) {
+                builder.add(values[i]);
+            }
+
+            @Override
+            void add(JsonObjectBuilder builder, int i) {
+                builder.add(keys[i], values[i]);
+            }
+        },
+        INT {
+            @Override
+            void add(JsonArrayBuilder builder, int i) {
+                builder.add(i);
+            }
+
+            @Override
+            void add(JsonObjectBuilder builder, int i) {
+                builder.add(keys[i], i);
+            }
+        },
+        LONG {
+            @Override
+            void add(JsonArrayBuilder builder, int i) {
+                builder.add((long) i);
+            }
+
+            @Override
+            void add(JsonObjectBuilder builder, int i) {
+                builder.add(keys[i], (long) i);
+            }
+        },
+        DOUBLE {
+            @Override
+            void add(JsonArrayBuilder builder, int i) {
+                builder.add(i + 0.5);
+            }
+
+            @Override
+            void add(JsonObjectBuilder builder, int i) {
+                builder.add(keys[i], i + 0.5);
+            }
+        },
+        BOOLEAN {
+            @Override
+            void add(JsonArrayBuilder builder, int i) {
+                builder.add((i & 1) == 0);
+            }
+
+            @Override
+            void add(JsonObjectBuilder builder, int i) {
+                builder.add(keys[i], (i & 1) == 0);
+            }
+        };
+
+        abstract void add(JsonArrayBuilder builder, int i);
+
+        abstract void add(JsonObjectBuilder builder, int i);
+    }
+
+    @Test
+    public void benchmarkArrayBuilder() {
+        double baseline = 0;
+        for (AddMethod method : AddMethod.values()) {
+            Measurement m = Measurement.measure("JsonArrayBuilder.add " + method, 10, 30, () -> {
+                JsonArrayBuilder builder = factory.createArrayBuilder();
+                for (int i = 0; i < CALLS_PER_ITERATION; i++) {
+                    method.add(builder, i);
+                }
+                builder.build();
+            });
+            double bytesPerCall = m.getAllocatedBytesPerIteration() / CALLS_PER_ITERATION;
+            if (method == AddMethod.JSON_VALUE) {
+                baseline = bytesPerCall;
+            }
+            log(m, bytesPerCall, baseline);
+        }
+    }
+
+    @Test
+    public void benchmarkObjectBuilder() {
+        double baseline = 0;
+        for (AddMethod method : AddMethod.values()) {
+            Measurement m = Measurement.measure("JsonObjectBuilder.add " + method, 10, 30, () -> {
+                JsonObjectBuilder builder = factory.createObjectBuilder();
+                for (int i = 0; i < CALLS_PER_ITERATION; i++) {
+                    method.add(builder, i);
+                }
+                builder.build();
+            });
+            double bytesPerCall = m.getAllocatedBytesPerIteration() / CALLS_PER_ITERATION;
+            if (method == AddMethod.JSON_VALUE) {
+                baseline = bytesPerCall;
+            }
+            log(m, bytesPerCall, baseline);
+        }
+    }
+
+    private static void log(Measurement m, double bytesPerCall, double baseline) {
+        LOG.info(String.format("%s: %.1f ns and %.1f bytes per call, %.1f bytes more than add(JsonValue)",
+                m.getName(), m.getNanosPerIteration() / CALLS_PER_ITERATION, bytesPerCall,
+                bytesPerCall - baseline));
+    }
+}
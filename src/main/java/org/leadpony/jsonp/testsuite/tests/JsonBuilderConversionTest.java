@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jakarta.json.spi.JsonProvider;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.ForkedJvm;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to measure the conversion of large collections and maps by
+ * {@link JsonProvider#createArrayBuilder(Collection)} and {@link JsonProvider#createObjectBuilder(Map)}.
+ *
+ * <p>
+ * Each size is converted in a new JVM with a fixed heap,
+ * so that the heap grown by the smaller conversions does not affect the larger ones.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class JsonBuilderConversionTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonBuilderConversionTest.class);
+
+    private static final int[] SIZES = {100000, 1000000};
+    private static final int WARMUP_SIZE = 100000;
+    private static final int WARMUPS = 10;
+
+    /**
+     * The maximum ratio of time per leaf of the largest conversion to that of the smallest conversion.
+     */
+    private static final double MAX_TIME_RATIO = 3.0;
+
+    /**
+     * Shapes of large collections and maps converted by the builders.
+     *
+     * @author leadpony
+     */
+    enum ConversionTestCase {
+        LIST(false, Shape.FLAT),
+        NESTED_LIST(false, Shape.NESTED),
+        LIST_OF_OPTIONALS(false, Shape.OPTIONAL),
+        MAP(true, Shape.FLAT),
+        NESTED_MAP(true, Shape.NESTED),
+        MAP_OF_OPTIONALS(true, Shape.OPTIONAL);
+
+        /**
+         * Shapes of the containers.
+         *
+         * @author leadpony
+         */
+        enum Shape {
+            FLAT(1),
+            NESTED(4),
+            OPTIONAL(1);
+
+            final int leavesPerEntry;
+
+            Shape(int leavesPerEntry) {
+                this.leavesPerEntry = leavesPerEntry;
+            }
+        }
+
+        private final boolean map;
+        private final Shape shape;
+
+        ConversionTestCase(boolean map, Shape shape) {
+            this.map = map;
+            this.shape = shape;
+        }
+
+        /**
+         * Creates a collection or a map holding the specified number of leaf values.
+         *
+         * @param leaves the number of leaf values.
+         * @return newly created collection or map.
+         */
+        Object create(int leaves) {
+            int entries = leaves / shape.leavesPerEntry;
+            if (map) {
+                Map<String, Object> container = new LinkedHashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    container.put("key" + i, createEntry(i));
+                }
+                return container;
+            } else {
+                List<Object> container = new ArrayList<>(entries);
+                for (int i = 0; i < entries; i++) {
+                    container.add(createEntry(i));
+                }
+                return container;
+            }
+        }
+
+        /**
+         * Converts a collection or a map with a builder.
+         *
+         * @param provider the provider creating the builders.
+         * @param source   the collection or the map to convert.
+         * @return the size of the built structure.
+         */
+        @SuppressWarnings("unchecked")
+        int convert(JsonProvider provider, Object source) {
+            if (map) {
+                return provider.createObjectBuilder((Map<String, Object>) source).build().size();
+            } else {
+                return provider.createArrayBuilder((Collection<Object>) source).build().size();
+            }
+        }
+
+        int getExpectedSize(int leaves) {
+            int entries = leaves / shape.leavesPerEntry;
+            return (shape == Shape.OPTIONAL) ? entries / 2 : entries;
+        }
+
+        private Object createEntry(int i) {
+            switch (shape) {
+            case NESTED:
+                if (map) {
+                    Map<String, Object> inner = new LinkedHashMap<>();
+                    for (int j = 0; j < shape.leavesPerEntry; j++) {
+                        inner.put("key" + j, createLeaf(i + j));
+                    }
+                    return inner;
+                } else {
+                    List<Object> inner = new ArrayList<>();
+                    for (int j = 0; j < shape.leavesPerEntry; j++) {
+                        inner.add(createLeaf(i + j));
+                    }
+                    return inner;
+                }
+            case OPTIONAL:
+                return (i % 2 == 0) ? Optional.of(createLeaf(i)) : Optional.empty();
+            default:
+                return createLeaf(i);
+            }
+        }
+
+        private static Object createLeaf(int i) {
+            switch (i % 4) {
+            case 0:
+                return i;
+            case 1:
+                return "value" + i;
+            case 2:
+                return i + 0.5;
+            default:
+                return i % 8 == 3;
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ConversionTestCase.class)
+    public void benchmarkConversionOfLargeContainer(ConversionTestCase test) {
+        int n = SIZES.length;
+        double[] nanosPerLeaf = new double[n];
+        for (int i = 0; i < n; i++) {
+            int leaves = SIZES[i];
+            String[] values = ForkedJvm.runForResult(JsonBuilderConversionTest.class, ForkedJvm.FIXED_HEAP_OPTIONS,
+                    test.name(), String.valueOf(leaves));
+
+            assertThat(Integer.parseInt(values[0])).isEqualTo(test.getExpectedSize(leaves));
+            nanosPerLeaf[i] = Double.parseDouble(values[1]) / leaves;
+            LOG.info(String.format("%s of %d: %.1f ns and %.1f bytes per leaf",
+                    test, leaves, nanosPerLeaf[i], Double.parseDouble(values[2]) / leaves));
+        }
+
+        assertThat(nanosPerLeaf[n - 1] / nanosPerLeaf[0]).isLessThan(MAX_TIME_RATIO);
+    }
+
+    /**
+     * Converts the container specified by the arguments and prints the size, the time and the allocation.
+     *
+     * @param args the name of the test case and the number of leaves.
+     */
+    public static void main(String[] args) {
+        ConversionTestCase test = ConversionTestCase.valueOf(args[0]);
+        int leaves = Integer.parseInt(args[1]);
+        JsonProvider provider = JsonProvider.provider();
+
+        Object warmup = test.create(WARMUP_SIZE);
+        for (int i = 0; i < WARMUPS; i++) {
+            test.convert(provider, warmup);
+        }
+
+        Object source = test.create(leaves);
+        int[] size = {0};
+        Measurement m = Measurement.measure(test.name(), 2, 5, () -> size[0] = test.convert(provider, source));
+
+        ForkedJvm.printResult(size[0], m.getNanosPerIteration(), m.getAllocatedBytesPerIteration());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObjectBuilder;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.ForkedJvm;
+import org.leadpony.jsonp.testsuite.helper.HeapUsage;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+
+/**
+ * A test type to test builders filled with millions of elements.
+ *
+ * <p>
+ * Each size is built in a new JVM in order to measure the peak heap without interference.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class JsonBuilderScalingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonBuilderScalingTest.class);
+
+    private static final int MEGABYTE = 1024 * 1024;
+
+    private static final int WARMUP_SIZE = 100000;
+    private static final int WARMUPS = 5;
+
+    /**
+     * The maximum ratio of time per element of the largest builder to that of the smallest.
+     */
+    private static final double MAX_TIME_RATIO = 3.0;
+
+    /**
+     * Kinds of builders with the sizes to build.
+     *
+     * @author leadpony
+     */
+    enum BuilderTestCase {
+        ARRAY(1000000, 3000000, 10000000) {
+            @Override
+            int build(JsonBuilderFactory factory, int size, long[] nanos) {
+                long start = System.nanoTime();
+                JsonArrayBuilder builder = factory.createArrayBuilder();
+                for (int i = 0; i < size; i++) {
+                    builder.add(i);
+                }
+                long added = System.nanoTime();
+                int actualSize = builder.build().size();
+                nanos[0] = added - start;
+                nanos[1] = System.nanoTime() - added;
+                return actualSize;
+            }
+        },
+        OBJECT(250000, 1000000) {
+            @Override
+            int build(JsonBuilderFactory factory, int size, long[] nanos) {
+                long start = System.nanoTime();
+                JsonObjectBuilder builder = factory.createObjectBuilder();
+                for (int i = 0; i < size; i++) {
+                    builder.add("key" + i, i);
+                }
+                long added = System.nanoTime();
+                int actualSize = builder.build().size();
+                nanos[0] = added - start;
+                nanos[1] = System.nanoTime() - added;
+                return actualSize;
+            }
+        };
+
+        final int[] sizes;
+
+        BuilderTestCase(int... sizes) {
+            this.sizes = sizes;
+        }
+
+        /**
+         * Fills a builder and builds it.
+         *
+         * @param factory the factory of builders.
+         * @param size    the number of elements to add.
+         * @param nanos   the array receiving the time spent for adding and for building.
+         * @return the size of the built structure.
+         */
+        abstract int build(JsonBuilderFactory factory, int size, long[] nanos);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BuilderTestCase.class)
+    public void benchmarkBuildScaling(BuilderTestCase test) {
+        int n = test.sizes.length;
+        long[] addNanos = new long[n];
+        long[] buildNanos = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            int size = test.sizes[i];
+            String[] values = ForkedJvm.runForResult(JsonBuilderScalingTest.class, ForkedJvm.FIXED_HEAP_OPTIONS,
+                    test.name(), String.valueOf(size));
+
+            assertThat(Integer.parseInt(values[0])).isEqualTo(size);
+            addNanos[i] = Long.parseLong(values[1]);
+            buildNanos[i] = Long.parseLong(values[2]);
+            long peak = Long.parseLong(values[3]);
+
+            LOG.info(String.format("%s of %d: add %d ms, build %d ms, %.1f ns per element, "
+                    + "peak heap %d MB, %.1f bytes per element",
+                    test, size, addNanos[i] / 1000000, buildNanos[i] / 1000000,
+                    (double) (addNanos[i] + buildNanos[i]) / size,
+                    peak / MEGABYTE, (double) peak / size));
+        }
+
+        double first = (double) (addNanos[0] + buildNanos[0]) / test.sizes[0];
+        double last = (double) (addNanos[n - 1] + buildNanos[n - 1]) / test.sizes[n - 1];
+        assertThat(last / first).isLessThan(MAX_TIME_RATIO);
+    }
+
+    /**
+     * Builds the structure specified by the arguments and prints the time and the peak heap usage.
+     *
+     * @param args the name of the test case and the number of elements.
+     */
+    public static void main(String[] args) {
+        BuilderTestCase test = BuilderTestCase.valueOf(args[0]);
+        int size = Integer.parseInt(args[1]);
+        JsonBuilderFactory factory = Json.createBuilderFactory(null);
+        long[] nanos = new long[2];
+
+        for (int i = 0; i < WARMUPS; i++) {
+            test.build(factory, WARMUP_SIZE, nanos);
+        }
+
+        long baseline = HeapUsage.getUsedAfterGc();
+        HeapUsage.resetPeak();
+        int actualSize = test.build(factory, size, nanos);
+        long peak = HeapUsage.getPeakUsed() - baseline;
+
+        ForkedJvm.printResult(actualSize, nanos[0], nanos[1], peak);
+    }
+}
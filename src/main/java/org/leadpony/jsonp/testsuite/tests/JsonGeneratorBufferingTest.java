@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Ambiguous;
+import org.leadpony.jsonp.testsuite.helper.JsonPipes;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.OutputStreams;
+import org.leadpony.jsonp.testsuite.helper.OutputStreams.CountingOutputStream;
+import org.leadpony.jsonp.testsuite.helper.Writers;
+import org.leadpony.jsonp.testsuite.helper.Writers.CountingWriter;
+
+/**
+ * A test type for testing how {@link JsonGenerator} writes to the underlying output.
+ *
+ * <p>
+ * The specification does not require the generator to buffer its output,
+ * but writing each token separately would be costly for unbuffered outputs such as sockets.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Ambiguous
+public class JsonGeneratorBufferingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonGeneratorBufferingTest.class);
+
+    /**
+     * The minimum average number of characters or bytes per write.
+     */
+    private static final int MIN_LENGTH_PER_WRITE = 256;
+
+    private static JsonGeneratorFactory factory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        factory = Json.createGeneratorFactory(null);
+    }
+
+    /**
+     * Ways to generate JSON.
+     *
+     * @author leadpony
+     */
+    enum GenerationTestCase {
+        VALUE {
+            @Override
+            void generate(JsonGenerator generator, JsonResource resource) {
+                JsonValue value;
+                try (JsonReader reader = Json.createReader(resource.createReader())) {
+                    value = reader.readValue();
+                }
+                generator.write(value);
+            }
+        },
+        EVENTS {
+            @Override
+            void generate(JsonGenerator generator, JsonResource resource) {
+                try (JsonParser parser = Json.createParser(resource.createReader())) {
+                    JsonPipes.pipe(parser, generator);
+                }
+            }
+        };
+
+        abstract void generate(JsonGenerator generator, JsonResource resource);
+    }
+
+    @ParameterizedTest
+    @EnumSource(GenerationTestCase.class)
+    public void generatorShouldCoalesceWritesToWriter(GenerationTestCase test) {
+        StringWriter stringWriter = new StringWriter();
+        CountingWriter writer = Writers.counting(stringWriter);
+        JsonGenerator g = factory.createGenerator(writer);
+        test.generate(g, JsonResource.ATOM_API);
+        long flushesBeforeClose = writer.getFlushCount();
+        g.close();
+        long length = stringWriter.getBuffer().length();
+
+        LOG.info(String.format("%s: %d chars in %d writes, %d flushes before close",
+                test, length, writer.getWriteCount(), flushesBeforeClose));
+
+        assertThat(writer.getWriteCount()).isLessThanOrEqualTo(length / MIN_LENGTH_PER_WRITE + 1);
+        assertThat(flushesBeforeClose).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(GenerationTestCase.class)
+    public void generatorShouldCoalesceWritesToOutputStream(GenerationTestCase test) {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        CountingOutputStream out = OutputStreams.counting(byteStream);
+        JsonGenerator g = factory.createGenerator(out);
+        test.generate(g, JsonResource.ATOM_API);
+        long flushesBeforeClose = out.getFlushCount();
+        g.close();
+        long length = byteStream.size();
+
+        LOG.info(String.format("%s: %d bytes in %d writes, %d flushes before close",
+                test, length, out.getWriteCount(), flushesBeforeClose));
+
+        assertThat(out.getWriteCount()).isLessThanOrEqualTo(length / MIN_LENGTH_PER_WRITE + 1);
+        assertThat(flushesBeforeClose).isZero();
+    }
+}
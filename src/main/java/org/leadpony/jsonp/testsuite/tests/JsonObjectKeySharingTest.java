@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.jsonp.testsuite.annotation.Ambiguous;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.HeapUsage;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+
+/**
+ * A test type to test whether the keys of {@link JsonObject}s read by {@link JsonReader}
+ * share the same {@link String} instances for the same names.
+ *
+ * @author leadpony
+ */
+public class JsonObjectKeySharingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonObjectKeySharingTest.class);
+
+    /**
+     * The number of copies of the document read to measure the retained heap.
+     */
+    private static final int COPIES = 20;
+
+    /**
+     * Statistics of the keys found in a tree.
+     *
+     * @author leadpony
+     */
+    static class KeyStatistics {
+
+        final List<String> keys = new ArrayList<>();
+        final Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> names = new HashSet<>();
+
+        KeyStatistics(JsonValue value) {
+            collect(value);
+        }
+
+        private void collect(JsonValue value) {
+            switch (value.getValueType()) {
+            case ARRAY:
+                value.asJsonArray().forEach(this::collect);
+                break;
+            case OBJECT:
+                for (String key : value.asJsonObject().keySet()) {
+                    keys.add(key);
+                    instances.add(key);
+                    names.add(key);
+                }
+                value.asJsonObject().values().forEach(this::collect);
+                break;
+            default:
+                break;
+            }
+        }
+
+        /**
+         * Returns the string instances which would be unnecessary if the keys were deduplicated.
+         *
+         * @return the list of redundant instances.
+         */
+        List<String> getRedundantInstances() {
+            Set<String> seen = new HashSet<>();
+            Set<String> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<String> redundant = new ArrayList<>();
+            for (String key : keys) {
+                if (visited.add(key) && !seen.add(key)) {
+                    redundant.add(key);
+                }
+            }
+            return redundant;
+        }
+    }
+
+    @Test
+    @Ambiguous
+    public void readObjectShouldShareKeysOfSameName() {
+        KeyStatistics statistics = new KeyStatistics(readObject());
+
+        LOG.info(String.format("%d keys, %d distinct instances, %d distinct names",
+                statistics.keys.size(), statistics.instances.size(), statistics.names.size()));
+
+        assertThat(statistics.instances.size()).isEqualTo(statistics.names.size());
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkFootprintOfRedundantKeys() {
+        JsonObject[] trees = new JsonObject[COPIES];
+        long before = HeapUsage.getUsedAfterGc();
+        for (int i = 0; i < COPIES; i++) {
+            trees[i] = readObject();
+        }
+        long treeBytes = (HeapUsage.getUsedAfterGc() - before) / COPIES;
+
+        KeyStatistics statistics = new KeyStatistics(trees[0]);
+        List<String> redundant = statistics.getRedundantInstances();
+
+        // measures the heap retained by fresh copies of the redundant instances.
+        String[][] copies = new String[COPIES][redundant.size()];
+        before = HeapUsage.getUsedAfterGc();
+        for (int i = 0; i < COPIES; i++) {
+            for (int j = 0; j < redundant.size(); j++) {
+                copies[i][j] = new String(redundant.get(j).toCharArray());
+            }
+        }
+        long redundantBytes = (HeapUsage.getUsedAfterGc() - before) / COPIES;
+
+        LOG.info(String.format("%d keys, %d distinct instances, %d distinct names",
+                statistics.keys.size(), statistics.instances.size(), statistics.names.size()));
+        LOG.info(String.format("%.1f KB retained by tree, %.1f KB by %d redundant keys, %.1f%% saved by deduplication",
+                treeBytes / 1024.0, redundantBytes / 1024.0, redundant.size(),
+                100.0 * redundantBytes / treeBytes));
+        assertThat(trees[COPIES - 1]).isNotNull();
+        assertThat(copies[COPIES - 1]).hasSize(redundant.size());
+    }
+
+    private static JsonObject readObject() {
+        try (JsonReader reader = Json.createReader(JsonResource.ATOM_API.createReader())) {
+            return reader.readObject();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to measure the cost of looking up properties of wide {@link JsonObject}s.
+ *
+ * <p>
+ * The objects have string values for the keys of even numbers and number values for the keys of odd numbers.
+ * Each lookup is compared with {@link HashMap#get(Object)} on a map of the same entries,
+ * because the cost of random access to memory grows with the size of any map.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class JsonObjectLookupTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonObjectLookupTest.class);
+
+    private static final long SEED = 42;
+    private static final int[] SIZES = {10, 1000, 100000, 1000000};
+    private static final int LOOKUPS_PER_ITERATION = 100000;
+
+    /**
+     * The maximum ratio of the relative time per lookup in the widest object to that in the narrowest.
+     * The relative time is the time of the lookup divided by that of {@link HashMap#get(Object)}.
+     * A linear scan would exceed this by orders of magnitude.
+     */
+    private static final double MAX_RELATIVE_TIME_RATIO = 5.0;
+
+    /**
+     * Ways to create objects.
+     *
+     * @author leadpony
+     */
+    enum ObjectSource {
+        READER {
+            @Override
+            JsonObject create(int size) {
+                StringBuilder builder = new StringBuilder("{");
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        builder.append(',');
+                    }
+                    builder.append("\"key").append(i).append("\":");
+                    if (i % 2 == 0) {
+                        builder.append("\"value").append(i).append('"');
+                    } else {
+                        builder.append(i);
+                    }
+                }
+                builder.append('}');
+                try (JsonReader reader = Json.createReader(new StringReader(builder.toString()))) {
+                    return reader.readObject();
+                }
+            }
+        },
+        BUILDER {
+            @Override
+            JsonObject create(int size) {
+                JsonObjectBuilder builder = Json.createObjectBuilder();
+                for (int i = 0; i < size; i++) {
+                    if (i % 2 == 0) {
+                        builder.add("key" + i, "value" + i);
+                    } else {
+                        builder.add("key" + i, i);
+                    }
+                }
+                return builder.build();
+            }
+        };
+
+        abstract JsonObject create(int size);
+    }
+
+    /**
+     * Methods looking up properties.
+     *
+     * @author leadpony
+     */
+    enum LookupMethod {
+        GET(false) {
+            @Override
+            boolean lookup(JsonObject object, String key) {
+                return object.get(key) != null;
+            }
+        },
+        GET_STRING(false) {
+            @Override
+            boolean lookup(JsonObject object, String key) {
+                return object.getString(key) != null;
+            }
+        },
+        GET_JSON_NUMBER(true) {
+            @Override
+            boolean lookup(JsonObject object, String key) {
+                return object.getJsonNumber(key) != null;
+            }
+        },
+        CONTAINS_KEY(true) {
+            @Override
+            boolean lookup(JsonObject object, String key) {
+                return object.containsKey(key);
+            }
+        };
+
+        private final boolean odd;
+
+        LookupMethod(boolean odd) {
+            this.odd = odd;
+        }
+
+        abstract boolean lookup(JsonObject object, String key);
+
+        /**
+         * Creates keys to look up in random order.
+         *
+         * @param size the number of keys in the object.
+         * @return the keys to look up.
+         */
+        String[] createKeys(int size) {
+            Random random = new Random(SEED);
+            String[] keys = new String[LOOKUPS_PER_ITERATION];
+            for (int i = 0; i < keys.length; i++) {
+                int index = random.nextInt(size / 2) * 2 + (odd ? 1 : 0);
+                keys[i] = "key" + index;
+            }
+            return keys;
+        }
+    }
+
+    public static Stream<Arguments> provideTestCases() {
+        return Arrays.stream(ObjectSource.values()).flatMap(source ->
+                Arrays.stream(LookupMethod.values()).map(method -> Arguments.of(source, method)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    public void benchmarkLookup(ObjectSource source, LookupMethod method) {
+        double[] relativeTimes = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            int size = SIZES[i];
+            JsonObject object = source.create(size);
+            Map<String, JsonValue> map = new HashMap<>(object);
+            String[] keys = method.createKeys(size);
+
+            Measurement m = Measurement.measure(source + " " + method + " of " + size, 10, 20, () -> {
+                for (String key : keys) {
+                    if (!method.lookup(object, key)) {
+                        throw new AssertionError(key);
+                    }
+                }
+            });
+            Measurement baseline = Measurement.measure("HashMap.get of " + size, 10, 20, () -> {
+                for (String key : keys) {
+                    if (map.get(key) == null) {
+                        throw new AssertionError(key);
+                    }
+                }
+            });
+
+            relativeTimes[i] = m.getNanosPerIteration() / baseline.getNanosPerIteration();
+            LOG.info(String.format("%s: %.1f ns per lookup, %.2fx time of HashMap.get",
+                    m.getName(), m.getNanosPerIteration() / LOOKUPS_PER_ITERATION, relativeTimes[i]));
+        }
+
+        assertThat(relativeTimes[SIZES.length - 1] / relativeTimes[0]).isLessThan(MAX_RELATIVE_TIME_RATIO);
+    }
+}
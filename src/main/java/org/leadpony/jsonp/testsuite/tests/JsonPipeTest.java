@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.JsonAssertions;
+import org.leadpony.jsonp.testsuite.helper.JsonPipes;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test {@link JsonParser} and {@link JsonGenerator} connected to each other.
+ *
+ * @author leadpony
+ */
+public class JsonPipeTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonPipeTest.class);
+
+    private static JsonParserFactory parserFactory;
+    private static JsonGeneratorFactory generatorFactory;
+    private static JsonReaderFactory readerFactory;
+    private static JsonWriterFactory writerFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        parserFactory = Json.createParserFactory(null);
+        generatorFactory = Json.createGeneratorFactory(null);
+        readerFactory = Json.createReaderFactory(null);
+        writerFactory = Json.createWriterFactory(null);
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonResource.class)
+    public void pipeShouldCopyJsonAsExpected(JsonResource resource) {
+        StringWriter writer = new StringWriter();
+        try (JsonParser parser = parserFactory.createParser(resource.createReader());
+             JsonGenerator generator = generatorFactory.createGenerator(writer)) {
+            JsonPipes.pipe(parser, generator);
+        }
+
+        JsonAssertions.assertThat(writer.toString()).isEqualTo(resource.getMinifiedJsonAsString());
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "UTF-16BE"})
+    public void benchmarkPipeComparedWithTree(String charsetName) {
+        Charset charset = Charset.forName(charsetName);
+        byte[] bytes = JsonResource.ATOM_API.getJsonAsString().getBytes(StandardCharsets.UTF_8);
+
+        Measurement streaming = Measurement.measure("streaming to " + charset, 10, 30, () -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+            try (JsonParser parser = parserFactory.createParser(new ByteArrayInputStream(bytes));
+                 JsonGenerator generator = generatorFactory.createGenerator(out, charset)) {
+                JsonPipes.pipe(parser, generator);
+            }
+        });
+        Measurement tree = Measurement.measure("tree to " + charset, 10, 30, () -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+            try (JsonReader reader = readerFactory.createReader(new ByteArrayInputStream(bytes));
+                 JsonWriter writer = writerFactory.createWriter(out, charset)) {
+                writer.write(reader.readValue());
+            }
+        });
+
+        LOG.info(streaming.toString(bytes.length));
+        LOG.info(tree.toString(bytes.length));
+        LOG.info(String.format("streaming takes %.2fx time and %.2fx memory of tree",
+                streaming.getNanosPerIteration() / tree.getNanosPerIteration(),
+                streaming.getAllocatedBytesPerIteration() / tree.getAllocatedBytesPerIteration()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 the JSON-P Test Suite Authors.
+ * Copyright 2019-2021 the JSON-P Test Suite Authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,19 +19,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import jakarta.json.Json;
 import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonPointer;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
 
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
 import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
 
 /**
  * A test for testing {@link JsonPointer}.
@@ -42,6 +51,16 @@ public class JsonPointerTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonPointerTest.class);
 
+    private static final int DOCUMENTS = 100;
+    private static final int[] DEPTHS = {0, 4, 16, 64};
+
+    private static JsonProvider provider;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        provider = JsonProvider.provider();
+    }
+
     /**
      * Test cases for JSON pointer creation.
      *
@@ -299,4 +318,116 @@ public class JsonPointerTest {
             LOG.info(thrown.getMessage());
         }
     }
+
+    /**
+     * Ways to obtain the pointer for each evaluation.
+     *
+     * @author leadpony
+     */
+    enum PointerUsage {
+        COMPILED {
+            @Override
+            JsonPointer get(JsonPointer compiled, String pointer) {
+                return compiled;
+            }
+        },
+        CREATED_BY_PROVIDER {
+            @Override
+            JsonPointer get(JsonPointer compiled, String pointer) {
+                return provider.createPointer(pointer);
+            }
+        },
+        CREATED_BY_JSON {
+            @Override
+            JsonPointer get(JsonPointer compiled, String pointer) {
+                return Json.createPointer(pointer);
+            }
+        };
+
+        abstract JsonPointer get(JsonPointer compiled, String pointer);
+    }
+
+    /**
+     * Evaluates the pointers of the first case in json-pointer.json against many documents.
+     *
+     * <p>
+     * The document is nested in the objects of the keys "a/b" and "m~n" alternately,
+     * so that the pointers get longer by the escaped tokens "a~1b" and "m~0n" as the depth grows.
+     * The pointers whose {@code containsValue()} throws an exception are excluded.
+     * </p>
+     *
+     * @param usage the way to obtain the pointers.
+     */
+    @ParameterizedTest
+    @EnumSource(PointerUsage.class)
+    @Benchmark
+    public void benchmarkEvaluation(PointerUsage usage) {
+        JsonObject base = TestCaseResource.JSON_POINTER.getObjectStream().findFirst().get();
+        List<JsonObject> tests = base.getJsonArray("tests").getValuesAs(JsonObject.class);
+
+        for (int depth : DEPTHS) {
+            StringBuilder prefix = new StringBuilder();
+            JsonValue nested = base.get("json");
+            for (int i = depth - 1; i >= 0; i--) {
+                String key = (i % 2 == 0) ? "a/b" : "m~n";
+                nested = Json.createObjectBuilder().add(key, nested).build();
+                prefix.insert(0, (i % 2 == 0) ? "/a~1b" : "/m~0n");
+            }
+
+            JsonStructure[] documents = new JsonStructure[DOCUMENTS];
+            for (int i = 0; i < DOCUMENTS; i++) {
+                try (JsonReader reader = Json.createReader(new StringReader(nested.toString()))) {
+                    documents[i] = reader.read();
+                }
+            }
+
+            List<JsonObject> evaluable = new ArrayList<>();
+            for (JsonObject test : tests) {
+                String pointer = prefix + test.getString("pointer");
+                Throwable thrown = catchThrowable(() -> Json.createPointer(pointer).containsValue(documents[0]));
+                if (thrown == null) {
+                    evaluable.add(test);
+                } else {
+                    LOG.info("excluded " + pointer + ": " + thrown.getMessage());
+                }
+            }
+
+            int size = evaluable.size();
+            String[] pointers = new String[size];
+            JsonPointer[] compiled = new JsonPointer[size];
+            boolean[] present = new boolean[size];
+            int evaluations = 0;
+            for (int i = 0; i < size; i++) {
+                JsonObject test = evaluable.get(i);
+                pointers[i] = prefix + test.getString("pointer");
+                compiled[i] = Json.createPointer(pointers[i]);
+                present[i] = test.containsKey("value");
+                if (present[i]) {
+                    assertThat(compiled[i].getValue(documents[0])).isEqualTo(test.get("value"));
+                    evaluations += 2;
+                } else {
+                    evaluations++;
+                }
+            }
+
+            Measurement m = Measurement.measure(usage + " at depth " + depth, 10, 20, () -> {
+                for (JsonStructure document : documents) {
+                    for (int i = 0; i < size; i++) {
+                        JsonPointer pointer = usage.get(compiled[i], pointers[i]);
+                        if (pointer.containsValue(document) != present[i]) {
+                            throw new AssertionError(pointers[i]);
+                        }
+                        if (present[i] && pointer.getValue(document) == null) {
+                            throw new AssertionError(pointers[i]);
+                        }
+                    }
+                }
+            });
+
+            evaluations *= DOCUMENTS;
+            LOG.info(String.format("%s: %.1f ns and %.0f bytes per evaluation",
+                    m.getName(), m.getNanosPerIteration() / evaluations,
+                    m.getAllocatedBytesPerIteration() / evaluations));
+        }
+    }
 }
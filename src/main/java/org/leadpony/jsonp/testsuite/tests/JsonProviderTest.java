@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 the JSON-P Test Suite Authors.
+ * Copyright 2019-2021 the JSON-P Test Suite Authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,10 +29,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonMergePatch;
@@ -46,7 +48,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
 import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
 
 /**
  * @author leadpony
@@ -55,6 +59,8 @@ public class JsonProviderTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonProviderTest.class);
 
+    private static final int CALLS_PER_ITERATION = 10000;
+
     private static JsonProvider provider;
 
     @BeforeAll
@@ -340,6 +346,98 @@ public class JsonProviderTest {
         assertThat(patch.toJsonValue()).isEqualTo(test.patch);
     }
 
+    /**
+     * Factory methods available both in {@link Json} and {@link JsonProvider}.
+     *
+     * @author leadpony
+     */
+    enum FactoryMethodTestCase {
+        CREATE_VALUE {
+            @Override
+            Object invokeStatic() {
+                return Json.createValue("hello");
+            }
+
+            @Override
+            Object invoke(JsonProvider provider) {
+                return provider.createValue("hello");
+            }
+        },
+        CREATE_POINTER {
+            @Override
+            Object invokeStatic() {
+                return Json.createPointer("/a/b");
+            }
+
+            @Override
+            Object invoke(JsonProvider provider) {
+                return provider.createPointer("/a/b");
+            }
+        },
+        CREATE_OBJECT_BUILDER {
+            @Override
+            Object invokeStatic() {
+                return Json.createObjectBuilder().build();
+            }
+
+            @Override
+            Object invoke(JsonProvider provider) {
+                return provider.createObjectBuilder().build();
+            }
+        };
+
+        abstract Object invokeStatic();
+
+        abstract Object invoke(JsonProvider provider);
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @EnumSource(FactoryMethodTestCase.class)
+    public void benchmarkStaticMethodComparedWithCachedProvider(FactoryMethodTestCase test) {
+        Measurement cached = Measurement.measure("cached provider " + test, 10, 20, () -> {
+            for (int i = 0; i < CALLS_PER_ITERATION; i++) {
+                test.invoke(provider);
+            }
+        });
+        Measurement statics = Measurement.measure("static method " + test, 10, 20, () -> {
+            for (int i = 0; i < CALLS_PER_ITERATION; i++) {
+                test.invokeStatic();
+            }
+        });
+
+        LOG.info(cached.toString());
+        LOG.info(statics.toString());
+        LOG.info(String.format("%s: static method takes %.2fx time of cached provider, "
+                + "%.1f ns and %.0f bytes more per call",
+                test,
+                statics.getNanosPerIteration() / cached.getNanosPerIteration(),
+                (statics.getNanosPerIteration() - cached.getNanosPerIteration()) / CALLS_PER_ITERATION,
+                (statics.getAllocatedBytesPerIteration() - cached.getAllocatedBytesPerIteration())
+                    / CALLS_PER_ITERATION));
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkProviderLookup() {
+        int calls = CALLS_PER_ITERATION / 10;
+        Measurement lookup = Measurement.measure("JsonProvider.provider()", 10, 20, () -> {
+            for (int i = 0; i < calls; i++) {
+                JsonProvider.provider();
+            }
+        });
+        Measurement serviceLoader = Measurement.measure("ServiceLoader", 10, 20, () -> {
+            for (int i = 0; i < calls; i++) {
+                ServiceLoader.load(JsonProvider.class).iterator().next();
+            }
+        });
+
+        LOG.info(String.format("JsonProvider.provider(): %.1f ns and %.0f bytes per call",
+                lookup.getNanosPerIteration() / calls, lookup.getAllocatedBytesPerIteration() / calls));
+        LOG.info(String.format("ServiceLoader: %.1f ns and %.0f bytes per call",
+                serviceLoader.getNanosPerIteration() / calls, serviceLoader.getAllocatedBytesPerIteration() / calls));
+    }
+
     /* Helper methods */
 
     private static List<Object> collection(Consumer<List<Object>> consumer) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test {@link JsonValue#equals(Object)} and {@link JsonValue#hashCode()}
+ * of trees read independently from the same JSON.
+ *
+ * @author leadpony
+ */
+public class JsonValueEqualityTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonValueEqualityTest.class);
+
+    private static final int WARMUPS = 20;
+    private static final int ITERATIONS = 30;
+
+    /**
+     * The ratio of time below which repeated hash codes are regarded as cached.
+     */
+    private static final double CACHED_TIME_RATIO = 0.1;
+
+    private static int sink;
+
+    @ParameterizedTest
+    @EnumSource(JsonResource.class)
+    public void equalsShouldReturnTrueForIndependentCopies(JsonResource resource) {
+        JsonValue first = readValue(resource);
+        JsonValue second = readValue(resource);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.equals(second)).isTrue();
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkEquals() {
+        JsonValue first = readValue(JsonResource.ATOM_API);
+        JsonValue second = readValue(JsonResource.ATOM_API);
+
+        Measurement copies = Measurement.measure("equals() of copies", WARMUPS, ITERATIONS,
+                () -> sink += first.equals(second) ? 1 : 0);
+        Measurement same = Measurement.measure("equals() of same instance", WARMUPS, ITERATIONS,
+                () -> sink += first.equals(first) ? 1 : 0);
+
+        LOG.info(copies.toString());
+        LOG.info(same.toString());
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkHashCode() {
+        JsonValue[] fresh = new JsonValue[WARMUPS + ITERATIONS];
+        for (int i = 0; i < fresh.length; i++) {
+            fresh[i] = readValue(JsonResource.ATOM_API);
+        }
+        JsonValue value = readValue(JsonResource.ATOM_API);
+        sink += value.hashCode();
+
+        int[] index = {0};
+        Measurement first = Measurement.measure("first hashCode()", WARMUPS, ITERATIONS,
+                () -> sink += fresh[index[0]++].hashCode());
+        Measurement repeated = Measurement.measure("repeated hashCode()", WARMUPS, ITERATIONS,
+                () -> sink += value.hashCode());
+
+        double ratio = repeated.getNanosPerIteration() / first.getNanosPerIteration();
+        LOG.info(first.toString());
+        LOG.info(repeated.toString());
+        LOG.info(String.format("repeated hashCode() takes %.3fx time of first, %s",
+                ratio, (ratio < CACHED_TIME_RATIO) ? "cached" : "not cached"));
+    }
+
+    private static JsonValue readValue(JsonResource resource) {
+        try (JsonReader reader = Json.createReader(resource.createReader())) {
+            return reader.readValue();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.HeapUsage;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+
+/**
+ * A test type to measure the heap retained by {@link JsonValue} trees read by {@link JsonReader}.
+ *
+ * <p>
+ * The retained heap is the difference of the heap usage after garbage collection
+ * before and after reading copies of the same document, divided by the number of copies.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class JsonValueFootprintTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonValueFootprintTest.class);
+
+    /**
+     * The total number of characters to read for each measurement.
+     */
+    private static final int TOTAL_INPUT_LENGTH = 64 * 1024 * 1024;
+    private static final int MAX_COPIES = 10000;
+
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_ELEMENTS = 100000;
+
+    private static JsonReaderFactory readerFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        readerFactory = Json.createReaderFactory(null);
+    }
+
+    /**
+     * Generated corpora of various kinds of values.
+     *
+     * @author leadpony
+     */
+    enum GeneratedCorpus {
+        INTEGERS {
+            @Override
+            void appendElement(StringBuilder builder, Random random) {
+                builder.append(random.nextInt());
+            }
+        },
+        DECIMALS {
+            @Override
+            void appendElement(StringBuilder builder, Random random) {
+                builder.append(random.nextInt(1000000) / 100.0);
+            }
+        },
+        STRINGS {
+            @Override
+            void appendElement(StringBuilder builder, Random random) {
+                builder.append("\"value").append(random.nextInt(1000000)).append('"');
+            }
+        },
+        LITERALS {
+            @Override
+            void appendElement(StringBuilder builder, Random random) {
+                builder.append(random.nextBoolean() ? "true" : "null");
+            }
+        },
+        OBJECTS {
+            @Override
+            void appendElement(StringBuilder builder, Random random) {
+                builder.append("{\"id\":").append(random.nextInt(1000000))
+                    .append(",\"name\":\"user").append(random.nextInt(1000000))
+                    .append("\",\"active\":").append(random.nextBoolean())
+                    .append(",\"score\":").append(random.nextInt(10000) / 100.0)
+                    .append(",\"tags\":[\"a\",\"b\"]}");
+            }
+        },
+        EMPTY_STRUCTURES {
+            @Override
+            void appendElement(StringBuilder builder, Random random) {
+                builder.append(random.nextBoolean() ? "[]" : "{}");
+            }
+        };
+
+        abstract void appendElement(StringBuilder builder, Random random);
+
+        String generate() {
+            Random random = new Random(SEED);
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                appendElement(builder, random);
+            }
+            return builder.append(']').toString();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonResource.class)
+    public void benchmarkRetainedHeapOfResource(JsonResource resource) {
+        measureRetainedHeap(resource.name(), resource.getJsonAsString());
+    }
+
+    @ParameterizedTest
+    @EnumSource(GeneratedCorpus.class)
+    public void benchmarkRetainedHeapOfGeneratedCorpus(GeneratedCorpus corpus) {
+        measureRetainedHeap(corpus.name(), corpus.generate());
+    }
+
+    private static void measureRetainedHeap(String name, String json) {
+        int copies = Math.max(1, Math.min(MAX_COPIES, TOTAL_INPUT_LENGTH / json.length()));
+        JsonValue[] values = new JsonValue[copies];
+
+        long before = HeapUsage.getUsedAfterGc();
+        for (int i = 0; i < copies; i++) {
+            values[i] = readValue(json);
+        }
+        long after = HeapUsage.getUsedAfterGc();
+
+        // counts the nodes after the measurement to keep the values reachable.
+        long nodes = 0;
+        for (JsonValue value : values) {
+            nodes += countNodes(value);
+        }
+        nodes /= copies;
+
+        double retained = (double) (after - before) / copies;
+        int inputSize = json.getBytes(StandardCharsets.UTF_8).length;
+        LOG.info(String.format("%s: %.1f KB retained, %d nodes, %.1f bytes per node, %.2fx of input size",
+                name, retained / 1024, nodes, retained / nodes, retained / inputSize));
+    }
+
+    private static JsonValue readValue(String json) {
+        try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+
+    private static long countNodes(JsonValue value) {
+        long nodes = 1;
+        switch (value.getValueType()) {
+        case ARRAY:
+            for (JsonValue item : value.asJsonArray()) {
+                nodes += countNodes(item);
+            }
+            break;
+        case OBJECT:
+            for (JsonValue property : value.asJsonObject().values()) {
+                nodes += countNodes(property);
+            }
+            break;
+        default:
+            break;
+        }
+        return nodes;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 the JSON-P Test Suite Authors.
+ * Copyright 2019-2021 the JSON-P Test Suite Authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,19 +15,32 @@
  */
 package org.leadpony.jsonp.testsuite.tests;
 
+import java.io.StringReader;
+import java.util.logging.Logger;
+
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue.ValueType;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 import jakarta.json.stream.JsonParserFactory;
 
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
 /**
  * @author leadpony
  */
 public class JsonValueParserTest extends AbstractJsonValueParserTest {
 
+    private static final Logger LOG = LoggerFactory.getLogger(JsonValueParserTest.class);
+
     private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(null);
 
     @Override
@@ -38,4 +51,42 @@ public class JsonValueParserTest extends AbstractJsonValueParserTest {
             return PARSER_FACTORY.createParser((JsonObject) value);
         }
     }
+
+    @Benchmark
+    @ParameterizedTest
+    @MethodSource("org.leadpony.jsonp.testsuite.tests.JsonResource#getStructuresAsStream")
+    public void benchmarkParsingComparedWithReparsing(JsonResource resource) {
+        JsonStructure value;
+        try (JsonReader reader = Json.createReader(resource.createReader())) {
+            value = reader.read();
+        }
+        long length = value.toString().length();
+
+        Measurement direct = Measurement.measure("direct " + resource, 20, 50, () -> {
+            walk(createParser(value));
+        });
+        Measurement reparsed = Measurement.measure("reparsed " + resource, 20, 50, () -> {
+            walk(PARSER_FACTORY.createParser(new StringReader(value.toString())));
+        });
+
+        LOG.info(direct.toString(length));
+        LOG.info(reparsed.toString(length));
+        LOG.info(String.format("%s: direct parsing takes %.2fx time and %.2fx memory of reparsing",
+                resource,
+                direct.getNanosPerIteration() / reparsed.getNanosPerIteration(),
+                direct.getAllocatedBytesPerIteration() / reparsed.getAllocatedBytesPerIteration()));
+    }
+
+    private static void walk(JsonParser parser) {
+        try {
+            while (parser.hasNext()) {
+                Event event = parser.next();
+                if (event == Event.KEY_NAME || event == Event.VALUE_STRING || event == Event.VALUE_NUMBER) {
+                    parser.getString();
+                }
+            }
+        } finally {
+            parser.close();
+        }
+    }
 }
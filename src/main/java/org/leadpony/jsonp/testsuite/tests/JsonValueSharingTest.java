@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Ambiguous;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test whether the shared instances defined in {@link JsonValue} are returned
+ * instead of new instances.
+ *
+ * <p>
+ * The specification does not require the shared instances to be returned,
+ * but doing so saves allocations for documents full of literals.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class JsonValueSharingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonValueSharingTest.class);
+
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_ELEMENTS = 100000;
+
+    private static JsonParserFactory parserFactory;
+    private static JsonReaderFactory readerFactory;
+    private static JsonBuilderFactory builderFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        parserFactory = Json.createParserFactory(null);
+        readerFactory = Json.createReaderFactory(null);
+        builderFactory = Json.createBuilderFactory(null);
+    }
+
+    /**
+     * Values which have the shared instances.
+     *
+     * @author leadpony
+     */
+    enum SharedValueTestCase {
+        TRUE("true", JsonValue.TRUE) {
+            @Override
+            void addTo(JsonArrayBuilder builder) {
+                builder.add(true);
+            }
+        },
+        FALSE("false", JsonValue.FALSE) {
+            @Override
+            void addTo(JsonArrayBuilder builder) {
+                builder.add(false);
+            }
+        },
+        NULL("null", JsonValue.NULL) {
+            @Override
+            void addTo(JsonArrayBuilder builder) {
+                builder.addNull();
+            }
+        },
+        EMPTY_ARRAY("[]", JsonValue.EMPTY_JSON_ARRAY) {
+            @Override
+            void addTo(JsonArrayBuilder builder) {
+                builder.add(builderFactory.createArrayBuilder());
+            }
+        },
+        EMPTY_OBJECT("{}", JsonValue.EMPTY_JSON_OBJECT) {
+            @Override
+            void addTo(JsonArrayBuilder builder) {
+                builder.add(builderFactory.createObjectBuilder());
+            }
+        };
+
+        final String json;
+        final JsonValue instance;
+
+        SharedValueTestCase(String json, JsonValue instance) {
+            this.json = json;
+            this.instance = instance;
+        }
+
+        abstract void addTo(JsonArrayBuilder builder);
+    }
+
+    @Ambiguous
+    @ParameterizedTest
+    @EnumSource(SharedValueTestCase.class)
+    public void getValueShouldReturnSharedInstance(SharedValueTestCase test) {
+        JsonValue actual;
+        try (JsonParser parser = parserFactory.createParser(new StringReader("[" + test.json + "]"))) {
+            parser.next();
+            parser.next();
+            actual = parser.getValue();
+        }
+
+        assertThat(actual).isSameAs(test.instance);
+    }
+
+    @Ambiguous
+    @ParameterizedTest
+    @EnumSource(SharedValueTestCase.class)
+    public void readArrayShouldReturnArrayOfSharedInstance(SharedValueTestCase test) {
+        JsonArray array;
+        try (JsonReader reader = readerFactory.createReader(new StringReader("[" + test.json + "]"))) {
+            array = reader.readArray();
+        }
+
+        assertThat(array.get(0)).isSameAs(test.instance);
+    }
+
+    @Ambiguous
+    @ParameterizedTest
+    @EnumSource(SharedValueTestCase.class)
+    public void buildShouldReturnArrayOfSharedInstance(SharedValueTestCase test) {
+        JsonArrayBuilder builder = builderFactory.createArrayBuilder();
+        test.addTo(builder);
+
+        JsonArray array = builder.build();
+
+        assertThat(array.get(0)).isSameAs(test.instance);
+    }
+
+    @Ambiguous
+    @Test
+    public void buildShouldReturnSharedEmptyArray() {
+        assertThat(builderFactory.createArrayBuilder().build()).isSameAs(JsonValue.EMPTY_JSON_ARRAY);
+    }
+
+    @Ambiguous
+    @Test
+    public void buildShouldReturnSharedEmptyObject() {
+        assertThat(builderFactory.createObjectBuilder().build()).isSameAs(JsonValue.EMPTY_JSON_OBJECT);
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkReadingLiterals() {
+        String json = generateLiterals();
+        String numbers = generateNumbers();
+
+        Measurement reading = Measurement.measure("readArray()", 10, 30, () -> readArray(json));
+        Measurement baseline = Measurement.measure("readArray() of numbers", 10, 30, () -> readArray(numbers));
+        Measurement parsing = Measurement.measure("getValue()", 10, 30, () -> {
+            try (JsonParser parser = parserFactory.createParser(new StringReader(json))) {
+                parser.next();
+                while (parser.next() != JsonParser.Event.END_ARRAY) {
+                    parser.getValue();
+                }
+            }
+        });
+
+        Set<JsonValue> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(readArray(json));
+
+        LOG.info(String.format("%s, %.1f bytes per element",
+                reading.toString(json.length()), reading.getAllocatedBytesPerIteration() / NUMBER_OF_ELEMENTS));
+        LOG.info(String.format("%s, %.1f bytes per element",
+                parsing.toString(json.length()), parsing.getAllocatedBytesPerIteration() / NUMBER_OF_ELEMENTS));
+        LOG.info(String.format("%s, %.1f bytes per element, %.1f bytes more than literals",
+                baseline.toString(numbers.length()), baseline.getAllocatedBytesPerIteration() / NUMBER_OF_ELEMENTS,
+                (baseline.getAllocatedBytesPerIteration() - reading.getAllocatedBytesPerIteration())
+                        / NUMBER_OF_ELEMENTS));
+        LOG.info(String.format("%d distinct instances for %d elements, %d of them not shared",
+                instances.size(), NUMBER_OF_ELEMENTS, instances.size() - countSharedInstances(instances)));
+    }
+
+    private static JsonArray readArray(String json) {
+        try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+            return reader.readArray();
+        }
+    }
+
+    private static int countSharedInstances(Set<JsonValue> instances) {
+        int count = 0;
+        for (SharedValueTestCase test : SharedValueTestCase.values()) {
+            if (instances.contains(test.instance)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Generates an array of true, false and null, with a few empty structures.
+     *
+     * @return the generated JSON.
+     */
+    private static String generateLiterals() {
+        SharedValueTestCase[] literals = {
+                SharedValueTestCase.TRUE, SharedValueTestCase.FALSE, SharedValueTestCase.NULL};
+        SharedValueTestCase[] structures = {
+                SharedValueTestCase.EMPTY_ARRAY, SharedValueTestCase.EMPTY_OBJECT};
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            if (random.nextInt(10) == 0) {
+                builder.append(structures[random.nextInt(structures.length)].json);
+            } else {
+                builder.append(literals[random.nextInt(literals.length)].json);
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Generates an array of small numbers as the baseline of values which have no shared instances.
+     *
+     * @return the generated JSON.
+     */
+    private static String generateNumbers() {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(random.nextInt(10000));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.ForkedJvm;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test {@link JsonValue#toString()} of trees producing up to 100 MB of output.
+ *
+ * <p>
+ * The trees repeat the same value instances in order to keep their footprint small,
+ * which does not change the output to be produced.
+ * Each size is processed in a new JVM so that the heap left by the previous sizes does not interfere.
+ * </p>
+ *
+ * @author leadpony
+ */
+@Benchmark
+public class JsonValueToStringScalingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonValueToStringScalingTest.class);
+
+    private static final int MEGABYTE = 1024 * 1024;
+    private static final int[] SIZES = {MEGABYTE, 10 * MEGABYTE, 100 * MEGABYTE};
+
+    private static final int WARMUPS = 2;
+    private static final int ITERATIONS = 3;
+    private static final int DEPTH = 500;
+
+    /**
+     * The maximum ratio of time per character of the largest output to that of the smallest.
+     */
+    private static final double MAX_TIME_RATIO = 3.0;
+
+    /**
+     * The maximum bytes allocated per character of output.
+     * This allows for the result string, the buffers grown by doubling and the per-node cost
+     * of the deep trees which produce only two characters per node,
+     * but not for the copies made by repeated concatenation.
+     */
+    private static final double MAX_BYTES_PER_CHAR = 32.0;
+
+    private static final JsonBuilderFactory FACTORY = Json.createBuilderFactory(null);
+
+    /**
+     * Shapes of trees.
+     *
+     * @author leadpony
+     */
+    enum TreeTestCase {
+        WIDE_ARRAY {
+            @Override
+            JsonValue create(int size) {
+                JsonValue item = Json.createValue(repeat('a', 98));
+                JsonArrayBuilder builder = FACTORY.createArrayBuilder();
+                for (int i = 0; i < size / 101; i++) {
+                    builder.add(item);
+                }
+                return builder.build();
+            }
+        },
+        WIDE_OBJECT {
+            @Override
+            JsonValue create(int size) {
+                JsonValue value = Json.createValue(repeat('v', 87));
+                JsonObjectBuilder builder = FACTORY.createObjectBuilder();
+                for (int i = 0; i < size / 101; i++) {
+                    builder.add(String.format("k%07d", i), value);
+                }
+                return builder.build();
+            }
+        },
+        DEEP_ARRAYS {
+            @Override
+            JsonValue create(int size) {
+                JsonValue chain = Json.createValue("leaf");
+                for (int i = 0; i < DEPTH; i++) {
+                    chain = FACTORY.createArrayBuilder().add(chain).build();
+                }
+                JsonArrayBuilder builder = FACTORY.createArrayBuilder();
+                for (int i = 0; i < size / (DEPTH * 2 + 7); i++) {
+                    builder.add(chain);
+                }
+                return builder.build();
+            }
+        },
+        DEEP_OBJECTS {
+            @Override
+            JsonValue create(int size) {
+                JsonValue chain = Json.createValue("leaf");
+                for (int i = 0; i < DEPTH; i++) {
+                    chain = FACTORY.createObjectBuilder().add("c", chain).build();
+                }
+                JsonArrayBuilder builder = FACTORY.createArrayBuilder();
+                for (int i = 0; i < size / (DEPTH * 6 + 7); i++) {
+                    builder.add(chain);
+                }
+                return builder.build();
+            }
+        };
+
+        /**
+         * Creates a tree whose output is about the specified size.
+         *
+         * @param size the approximate number of characters in the output.
+         * @return the created tree.
+         */
+        abstract JsonValue create(int size);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TreeTestCase.class)
+    public void benchmarkToStringScaling(TreeTestCase test) {
+        double[] nanosPerChar = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            String[] values = ForkedJvm.runForResult(JsonValueToStringScalingTest.class, ForkedJvm.FIXED_HEAP_OPTIONS,
+                    test.name(), String.valueOf(SIZES[i]));
+
+            long length = Long.parseLong(values[0]);
+            double nanos = Double.parseDouble(values[1]);
+            double bytes = Double.parseDouble(values[2]);
+            nanosPerChar[i] = nanos / length;
+            double bytesPerChar = bytes / length;
+
+            LOG.info(String.format("%s of %.1f MB: %d ms, %.2f ns and %.1f bytes allocated per char",
+                    test, (double) length / MEGABYTE, (long) nanos / 1000000, nanosPerChar[i], bytesPerChar));
+
+            assertThat(bytesPerChar).isLessThan(MAX_BYTES_PER_CHAR);
+        }
+
+        assertThat(nanosPerChar[SIZES.length - 1] / nanosPerChar[0]).isLessThan(MAX_TIME_RATIO);
+    }
+
+    /**
+     * Converts the tree specified by the arguments to a string and prints the time and the allocation.
+     *
+     * @param args the name of the test case and the approximate size of the output.
+     */
+    public static void main(String[] args) {
+        TreeTestCase test = TreeTestCase.valueOf(args[0]);
+        int size = Integer.parseInt(args[1]);
+
+        JsonValue small = test.create(MEGABYTE);
+        for (int i = 0; i < 20; i++) {
+            small.toString();
+        }
+
+        JsonValue value = test.create(size);
+        int[] length = {0};
+        Measurement m = Measurement.measure(test.name(), WARMUPS, ITERATIONS,
+                () -> length[0] = value.toString().length());
+
+        ForkedJvm.printResult(length[0], m.getNanosPerIteration(), m.getAllocatedBytesPerIteration());
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.JsonAssertions;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test {@link JsonWriter} and {@link JsonGenerator} writing to byte streams in various charsets.
+ *
+ * @author leadpony
+ */
+public class OutputCharsetTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutputCharsetTest.class);
+
+    private static JsonWriterFactory writerFactory;
+    private static JsonGeneratorFactory generatorFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        writerFactory = Json.createWriterFactory(null);
+        generatorFactory = Json.createGeneratorFactory(null);
+    }
+
+    /**
+     * Charsets to write.
+     *
+     * @author leadpony
+     */
+    enum OutputCharset {
+        UTF_8(StandardCharsets.UTF_8),
+        UTF_16BE(StandardCharsets.UTF_16BE),
+        UTF_16LE(StandardCharsets.UTF_16LE),
+        UTF_32BE(Charset.forName("UTF-32BE")),
+        UTF_32LE(Charset.forName("UTF-32LE"));
+
+        private final Charset charset;
+
+        OutputCharset(Charset charset) {
+            this.charset = charset;
+        }
+    }
+
+    /**
+     * Output types writing JSON values.
+     *
+     * @author leadpony
+     */
+    enum OutputType {
+        WRITER {
+            @Override
+            void write(JsonValue value, OutputStream out, Charset charset) {
+                try (JsonWriter writer = writerFactory.createWriter(out, charset)) {
+                    writer.write(value);
+                }
+            }
+        },
+        GENERATOR {
+            @Override
+            void write(JsonValue value, OutputStream out, Charset charset) {
+                try (JsonGenerator generator = generatorFactory.createGenerator(out, charset)) {
+                    generator.write(value);
+                }
+            }
+        };
+
+        abstract void write(JsonValue value, OutputStream out, Charset charset);
+
+        byte[] writeToBytes(JsonValue value, Charset charset) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            write(value, out, charset);
+            return out.toByteArray();
+        }
+    }
+
+    public static Stream<Arguments> provideRoundTripTestCases() {
+        return Arrays.stream(OutputType.values()).flatMap(type ->
+                Arrays.stream(OutputCharset.values()).flatMap(charset ->
+                        JsonResource.getStructuresAsStream().map(resource ->
+                                Arguments.of(type, charset, resource))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRoundTripTestCases")
+    public void writeShouldWriteJsonEncodedInCharset(OutputType type, OutputCharset charset,
+            JsonResource resource) {
+        JsonValue value = readValue(resource);
+
+        byte[] bytes = type.writeToBytes(value, charset.charset);
+
+        String actual = new String(bytes, charset.charset);
+        JsonAssertions.assertThat(actual).isEqualTo(resource.getMinifiedJsonAsString());
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkWriter() {
+        benchmark(OutputType.WRITER, JsonResource.ATOM_API);
+    }
+
+    @Test
+    @Benchmark
+    public void benchmarkGenerator() {
+        benchmark(OutputType.GENERATOR, JsonResource.ATOM_API);
+    }
+
+    private static void benchmark(OutputType type, JsonResource resource) {
+        JsonValue value = readValue(resource);
+        double baseline = 0;
+        for (OutputCharset charset : OutputCharset.values()) {
+            int length = type.writeToBytes(value, charset.charset).length;
+            Measurement m = Measurement.measure(type + " " + charset, 30, 30, () -> {
+                type.write(value, new ByteArrayOutputStream(length), charset.charset);
+            });
+            if (charset == OutputCharset.UTF_8) {
+                baseline = m.getNanosPerIteration();
+            }
+            LOG.info(String.format("%s, %.2fx time of UTF-8",
+                    m.toString(length), m.getNanosPerIteration() / baseline));
+        }
+    }
+
+    private static JsonValue readValue(JsonResource resource) {
+        try (JsonReader reader = Json.createReader(resource.createReader())) {
+            return reader.readValue();
+        }
+    }
+}
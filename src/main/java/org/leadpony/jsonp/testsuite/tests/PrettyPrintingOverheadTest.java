@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type for testing pretty printing in {@link JsonGenerator} against compact output.
+ *
+ * @author leadpony
+ */
+public class PrettyPrintingOverheadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrettyPrintingOverheadTest.class);
+
+    private static final int WARMUPS = 20;
+    private static final int ITERATIONS = 20;
+
+    private static JsonProvider provider;
+    private static JsonGeneratorFactory compactFactory;
+    private static JsonGeneratorFactory prettyFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        provider = JsonProvider.provider();
+        compactFactory = provider.createGeneratorFactory(null);
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonGenerator.PRETTY_PRINTING, Boolean.TRUE);
+        prettyFactory = provider.createGeneratorFactory(config);
+    }
+
+    /**
+     * Documents of various shapes.
+     *
+     * <p>
+     * In balanced documents every container at a level below the depth has only containers as its children.
+     * In comb-shaped documents only the first child is a container and the others are numbers,
+     * which places most of the lines at increasing indentation levels as the depth grows.
+     * </p>
+     *
+     * @author leadpony
+     */
+    enum DocumentTestCase {
+        ATOM_API(JsonResource.ATOM_API),
+        WIDE(1, 100000, true),
+        BALANCED_FANOUT_10(5, 10, true),
+        BALANCED_FANOUT_2(16, 2, true),
+        COMB_DEPTH_16(16, 6250, false),
+        COMB_DEPTH_64(64, 1563, false),
+        COMB_DEPTH_256(256, 391, false);
+
+        private final JsonResource resource;
+        private final int depth;
+        private final int fanout;
+        private final boolean balanced;
+
+        DocumentTestCase(JsonResource resource) {
+            this.resource = resource;
+            this.depth = 0;
+            this.fanout = 0;
+            this.balanced = false;
+        }
+
+        DocumentTestCase(int depth, int fanout, boolean balanced) {
+            this.resource = null;
+            this.depth = depth;
+            this.fanout = fanout;
+            this.balanced = balanced;
+        }
+
+        JsonValue createValue() {
+            if (resource != null) {
+                try (JsonReader reader = provider.createReader(resource.createReader())) {
+                    return reader.readValue();
+                }
+            }
+            return generate(0);
+        }
+
+        private JsonValue generate(int level) {
+            if (level % 2 == 0) {
+                JsonObjectBuilder builder = provider.createObjectBuilder();
+                for (int i = 0; i < fanout; i++) {
+                    builder.add("k" + i, generateChild(level, i));
+                }
+                return builder.build();
+            } else {
+                JsonArrayBuilder builder = provider.createArrayBuilder();
+                for (int i = 0; i < fanout; i++) {
+                    builder.add(generateChild(level, i));
+                }
+                return builder.build();
+            }
+        }
+
+        private JsonValue generateChild(int level, int index) {
+            if (level + 1 < depth && (balanced || index == 0)) {
+                return generate(level + 1);
+            }
+            return provider.createValue(index);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DocumentTestCase.class)
+    public void prettyPrintingShouldPreserveValue(DocumentTestCase test) {
+        JsonValue value = test.createValue();
+
+        String json = write(prettyFactory, value);
+
+        try (JsonReader reader = provider.createReader(new StringReader(json))) {
+            assertThat(reader.readValue()).isEqualTo(value);
+        }
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @EnumSource(DocumentTestCase.class)
+    public void benchmarkPrettyPrintingComparedWithCompact(DocumentTestCase test) {
+        JsonValue value = test.createValue();
+        long compactLength = write(compactFactory, value).length();
+        long prettyLength = write(prettyFactory, value).length();
+        long levels = countIndentationLevels(value, 0);
+
+        // warms up both configurations before measuring either of them.
+        for (int i = 0; i < WARMUPS; i++) {
+            write(compactFactory, value);
+            write(prettyFactory, value);
+        }
+
+        Measurement compact = Measurement.measure("compact " + test, 0, ITERATIONS,
+                () -> write(compactFactory, value));
+        Measurement pretty = Measurement.measure("pretty " + test, 0, ITERATIONS,
+                () -> write(prettyFactory, value));
+
+        LOG.info(compact.toString(compactLength));
+        LOG.info(pretty.toString(prettyLength));
+        LOG.info(String.format("pretty printing takes %.2fx time and %.2fx memory of compact, "
+                + "%.2f ns per indentation level (%d levels)",
+                pretty.getNanosPerIteration() / compact.getNanosPerIteration(),
+                pretty.getAllocatedBytesPerIteration() / compact.getAllocatedBytesPerIteration(),
+                (pretty.getNanosPerIteration() - compact.getNanosPerIteration()) / levels,
+                levels));
+    }
+
+    private static String write(JsonGeneratorFactory factory, JsonValue value) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator g = factory.createGenerator(writer)) {
+            g.write(value);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Counts the indentation levels of all lines in the pretty printed value,
+     * assuming each value and each closing bracket of a non-empty structure starts a line.
+     *
+     * @param value the value to count.
+     * @param level the indentation level of the value.
+     * @return the total number of indentation levels.
+     */
+    private static long countIndentationLevels(JsonValue value, int level) {
+        long levels = level;
+        if (value instanceof JsonStructure) {
+            Iterable<JsonValue> children = (value.getValueType() == JsonValue.ValueType.OBJECT)
+                    ? value.asJsonObject().values()
+                    : value.asJsonArray();
+            boolean empty = true;
+            for (JsonValue child : children) {
+                levels += countIndentationLevels(child, level + 1);
+                empty = false;
+            }
+            if (!empty) {
+                levels += level;
+            }
+        }
+        return levels;
+    }
+}
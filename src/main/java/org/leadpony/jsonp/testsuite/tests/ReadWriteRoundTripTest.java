@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.JsonAssertions;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test reading JSON with {@link JsonReader} and writing it back with {@link JsonWriter}.
+ *
+ * @author leadpony
+ */
+public class ReadWriteRoundTripTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadWriteRoundTripTest.class);
+
+    private static JsonReaderFactory readerFactory;
+    private static JsonWriterFactory writerFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        readerFactory = Json.createReaderFactory(null);
+        writerFactory = Json.createWriterFactory(null);
+    }
+
+    /**
+     * Formats of the JSON to read.
+     *
+     * @author leadpony
+     */
+    enum InputFormat {
+        MINIFIED {
+            @Override
+            String getJson(JsonResource resource) {
+                return resource.getMinifiedJsonAsString();
+            }
+        },
+        INDENTED_WITH_2_SPACES {
+            @Override
+            String getJson(JsonResource resource) {
+                return resource.getJsonIndentedWithSpacesAsString(2);
+            }
+        },
+        INDENTED_WITH_TAB {
+            @Override
+            String getJson(JsonResource resource) {
+                return resource.getJsonIndentedWithTabAsString();
+            }
+        };
+
+        abstract String getJson(JsonResource resource);
+    }
+
+    public static Stream<Arguments> provideTestCases() {
+        return Arrays.stream(InputFormat.values()).flatMap(format ->
+                JsonResource.getStructuresAsStream().map(resource -> Arguments.of(format, resource)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    public void readAndWriteShouldProduceMinifiedJson(InputFormat format, JsonResource resource) {
+        String actual = readAndWrite(format.getJson(resource));
+
+        JsonAssertions.assertThat(actual).isEqualTo(resource.getMinifiedJsonAsString());
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    public void benchmarkReadAndWrite(InputFormat format, JsonResource resource) {
+        String json = format.getJson(resource);
+        String expected = resource.getMinifiedJsonAsString();
+
+        // verifies the output of every iteration outside of the measurement.
+        Measurement m = Measurement.measure(format + " " + resource, 100, 200,
+                () -> readAndWrite(json),
+                output -> JsonAssertions.assertThat(output).isEqualTo(expected));
+
+        LOG.info(m.toString(json.length()));
+    }
+
+    private static String readAndWrite(String json) {
+        StringWriter stringWriter = new StringWriter(json.length());
+        try (JsonReader reader = readerFactory.createReader(new StringReader(json));
+             JsonWriter writer = writerFactory.createWriter(stringWriter)) {
+            writer.write(reader.readValue());
+        }
+        return stringWriter.toString();
+    }
+}
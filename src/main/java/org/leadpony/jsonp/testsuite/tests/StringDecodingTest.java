@@ -0,0 +1,229 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test decoding of strings full of escapes and non-ASCII characters.
+ *
+ * @author leadpony
+ */
+public class StringDecodingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StringDecodingTest.class);
+
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_PROPERTIES = 10000;
+    private static final int MAX_SEGMENTS = 24;
+
+    private static final String SIMPLE_ESCAPES = "\"\\/\b\f\n\r\t";
+    private static final String SIMPLE_ESCAPE_LETTERS = "\"\\/bfnrt";
+
+    private static JsonParserFactory factory;
+    private static List<String> expectedStrings;
+    private static String json;
+    private static byte[] bytes;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        factory = Json.createParserFactory(null);
+        expectedStrings = new ArrayList<>();
+        json = generateJson(new Random(SEED), expectedStrings);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Types of input to the parser.
+     *
+     * @author leadpony
+     */
+    enum InputType {
+        READER,
+        INPUT_STREAM;
+
+        JsonParser createParser() {
+            if (this == READER) {
+                return factory.createParser(new StringReader(json));
+            } else {
+                return factory.createParser(new ByteArrayInputStream(bytes));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(InputType.class)
+    public void getStringShouldReturnDecodedStrings(InputType input) {
+        List<String> actual = new ArrayList<>();
+        try (JsonParser parser = input.createParser()) {
+            while (parser.hasNext()) {
+                Event event = parser.next();
+                if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+                    actual.add(parser.getString());
+                }
+            }
+        }
+
+        assertThat(actual).hasSameSizeAs(expectedStrings);
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i)).as("string at %d", i).isEqualTo(expectedStrings.get(i));
+        }
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @EnumSource(InputType.class)
+    public void benchmarkGetString(InputType input) {
+        Measurement m = Measurement.measure(input.name(), 10, 30, () -> {
+            try (JsonParser parser = input.createParser()) {
+                while (parser.hasNext()) {
+                    Event event = parser.next();
+                    if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+                        parser.getString();
+                    }
+                }
+            }
+        });
+        LOG.info(m.toString(bytes.length));
+    }
+
+    /**
+     * Generates an array of objects, each of which has a single property.
+     *
+     * @param random   the source of randomness.
+     * @param expected the list to which the decoded keys and values are added.
+     * @return the generated JSON.
+     */
+    private static String generateJson(Random random, List<String> expected) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < NUMBER_OF_PROPERTIES; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('{');
+            appendString(random, json, expected);
+            json.append(':');
+            appendString(random, json, expected);
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private static void appendString(Random random, StringBuilder json, List<String> expected) {
+        StringBuilder decoded = new StringBuilder();
+        json.append('"');
+        int segments = 1 + random.nextInt(MAX_SEGMENTS);
+        for (int i = 0; i < segments; i++) {
+            appendSegment(random, json, decoded);
+        }
+        json.append('"');
+        expected.add(decoded.toString());
+    }
+
+    private static void appendSegment(Random random, StringBuilder json, StringBuilder decoded) {
+        int codePoint;
+        switch (random.nextInt(8)) {
+        case 0:
+            // ASCII word
+            int length = 1 + random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                char c = (char) ('a' + random.nextInt(26));
+                json.append(c);
+                decoded.append(c);
+            }
+            break;
+        case 1:
+            int index = random.nextInt(SIMPLE_ESCAPES.length());
+            json.append('\\').append(SIMPLE_ESCAPE_LETTERS.charAt(index));
+            decoded.append(SIMPLE_ESCAPES.charAt(index));
+            break;
+        case 2:
+            // control character
+            char control = (char) random.nextInt(0x20);
+            appendEscaped(random, json, control);
+            decoded.append(control);
+            break;
+        case 3:
+            // escaped character in BMP
+            char ch = randomNonSurrogate(random);
+            appendEscaped(random, json, ch);
+            decoded.append(ch);
+            break;
+        case 4:
+            // CJK Unified Ideographs
+            codePoint = 0x4e00 + random.nextInt(0x5200);
+            json.appendCodePoint(codePoint);
+            decoded.appendCodePoint(codePoint);
+            break;
+        case 5:
+            // Emoticons
+            codePoint = 0x1f600 + random.nextInt(0x50);
+            json.appendCodePoint(codePoint);
+            decoded.appendCodePoint(codePoint);
+            break;
+        case 6:
+            // escaped surrogate pair
+            codePoint = 0x10000 + random.nextInt(0x100000);
+            for (char surrogate : Character.toChars(codePoint)) {
+                appendEscaped(random, json, surrogate);
+            }
+            decoded.appendCodePoint(codePoint);
+            break;
+        default:
+            // Greek and Cyrillic
+            codePoint = 0x0370 + random.nextInt(0x0190);
+            json.appendCodePoint(codePoint);
+            decoded.appendCodePoint(codePoint);
+            break;
+        }
+    }
+
+    private static char randomNonSurrogate(Random random) {
+        char c;
+        do {
+            c = (char) (0x80 + random.nextInt(0x10000 - 0x80));
+        } while (Character.isSurrogate(c));
+        return c;
+    }
+
+    private static void appendEscaped(Random random, StringBuilder json, char c) {
+        String hex = String.format("%04x", (int) c);
+        if (random.nextBoolean()) {
+            hex = hex.toUpperCase();
+        }
+        json.append("\\u").append(hex);
+    }
+}
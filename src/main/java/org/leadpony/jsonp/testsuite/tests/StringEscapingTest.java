@@ -0,0 +1,207 @@
+/*
+ * Copyright 2021 the JSON-P Test Suite Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.jsonp.testsuite.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonString;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.jsonp.testsuite.annotation.Benchmark;
+import org.leadpony.jsonp.testsuite.helper.LoggerFactory;
+import org.leadpony.jsonp.testsuite.helper.Measurement;
+
+/**
+ * A test type to test escaping of strings containing various ratios of characters to escape.
+ *
+ * @author leadpony
+ */
+public class StringEscapingTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StringEscapingTest.class);
+
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_STRINGS = 10000;
+    private static final int STRING_LENGTH = 100;
+
+    private static final String CHARS_TO_ESCAPE = "\"\\\b\f\n\r\t\u0000\u0001\u001f";
+
+    private static JsonGeneratorFactory factory;
+    private static JsonReaderFactory readerFactory;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        factory = Json.createGeneratorFactory(null);
+        readerFactory = Json.createReaderFactory(null);
+    }
+
+    /**
+     * Strings with different ratios of characters to escape.
+     *
+     * @author leadpony
+     */
+    enum EscapeRatioTestCase {
+        NONE(0),
+        FIVE_PERCENT(5),
+        HALF(50);
+
+        final List<String> strings;
+        final List<JsonString> values;
+        final long length;
+
+        EscapeRatioTestCase(int percent) {
+            JsonProvider provider = JsonProvider.provider();
+            Random random = new Random(SEED);
+            this.strings = new ArrayList<>();
+            this.values = new ArrayList<>();
+            long length = 0;
+            for (int i = 0; i < NUMBER_OF_STRINGS; i++) {
+                String string = generateString(random, percent);
+                strings.add(string);
+                values.add(provider.createValue(string));
+                length += string.length();
+            }
+            this.length = length;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(EscapeRatioTestCase.class)
+    public void writeShouldWriteStringsToBeReadAsOriginal(EscapeRatioTestCase test) {
+        String json = generate(test, false);
+
+        List<String> actual = new ArrayList<>();
+        try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+            reader.readArray().getValuesAs(JsonString.class).forEach(s -> actual.add(s.getString()));
+        }
+
+        assertThat(actual).isEqualTo(test.strings);
+    }
+
+    @ParameterizedTest
+    @EnumSource(EscapeRatioTestCase.class)
+    public void writeKeyShouldWriteKeysToBeReadAsOriginal(EscapeRatioTestCase test) {
+        String json = generate(test, true);
+
+        List<String> actual = new ArrayList<>();
+        try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+            reader.readArray().getValuesAs(JsonObject.class)
+                .forEach(o -> actual.addAll(o.keySet()));
+        }
+
+        assertThat(actual).isEqualTo(test.strings);
+    }
+
+    @ParameterizedTest
+    @EnumSource(EscapeRatioTestCase.class)
+    public void toStringShouldReturnStringToBeReadAsOriginal(EscapeRatioTestCase test) {
+        for (int i = 0; i < NUMBER_OF_STRINGS; i++) {
+            String json = test.values.get(i).toString();
+            try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+                assertThat(((JsonString) reader.readValue()).getString()).isEqualTo(test.strings.get(i));
+            }
+        }
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @EnumSource(EscapeRatioTestCase.class)
+    public void benchmarkWrite(EscapeRatioTestCase test) {
+        Measurement m = Measurement.measure("write(String) " + test, 20, 50, () -> generate(test, false));
+        LOG.info(m.toString(test.length));
+    }
+
+    /**
+     * Measures objects having the strings as keys, and subtracts the same objects having the unescaped keys
+     * of {@link EscapeRatioTestCase#NONE} in order to isolate the cost of escaping the keys.
+     *
+     * @param test the test case.
+     */
+    @Benchmark
+    @ParameterizedTest
+    @EnumSource(EscapeRatioTestCase.class)
+    public void benchmarkWriteKey(EscapeRatioTestCase test) {
+        EscapeRatioTestCase baseline = EscapeRatioTestCase.NONE;
+        Measurement m = Measurement.measure("writeKey(String) " + test, 20, 50, () -> generate(test, true));
+        Measurement b = Measurement.measure("writeKey(String) " + baseline, 20, 50, () -> generate(baseline, true));
+        LOG.info(m.toString(test.length));
+        LOG.info(String.format("escaping keys of %s: %.2f ns per char more than %s",
+                test, (m.getNanosPerIteration() - b.getNanosPerIteration()) / test.length, baseline));
+    }
+
+    @Benchmark
+    @ParameterizedTest
+    @EnumSource(EscapeRatioTestCase.class)
+    public void benchmarkToString(EscapeRatioTestCase test) {
+        Measurement m = Measurement.measure("toString() " + test, 20, 50, () -> {
+            for (JsonString value : test.values) {
+                value.toString();
+            }
+        });
+        LOG.info(m.toString(test.length));
+    }
+
+    /**
+     * Generates an array of the strings, or an array of objects having the strings as keys.
+     *
+     * @param test  the test case.
+     * @param asKey {@code true} if the strings are written as keys.
+     * @return the generated JSON.
+     */
+    private static String generate(EscapeRatioTestCase test, boolean asKey) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator g = factory.createGenerator(writer)) {
+            g.writeStartArray();
+            for (String string : test.strings) {
+                if (asKey) {
+                    g.writeStartObject().writeKey(string).write(0).writeEnd();
+                } else {
+                    g.write(string);
+                }
+            }
+            g.writeEnd();
+        }
+        return writer.toString();
+    }
+
+    private static String generateString(Random random, int percent) {
+        StringBuilder b = new StringBuilder(STRING_LENGTH);
+        for (int i = 0; i < STRING_LENGTH; i++) {
+            if (random.nextInt(100) < percent) {
+                b.append(CHARS_TO_ESCAPE.charAt(random.nextInt(CHARS_TO_ESCAPE.length())));
+            } else {
+                b.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return b.toString();
+    }
+}